@@ -0,0 +1,23 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Expense amount distribution of one group (all, a category or a person) in a period
+ * Percentiles are estimates within 1% of the exact amount.
+ */
+@Data
+@Builder
+public class AmountDistribution {
+    private String name;
+    private long count;
+    private BigDecimal total;
+    private BigDecimal p50;
+    private BigDecimal p90;
+    private BigDecimal p99;
+    private List<TopExpense> top;
+}
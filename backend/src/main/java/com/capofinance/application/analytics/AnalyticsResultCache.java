@@ -0,0 +1,44 @@
+package com.capofinance.application.analytics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes analytics query results per ledger version
+ * The version is part of the key, so a ledger write makes every previous entry
+ * unreachable at once; stale entries are evicted by the size bound.
+ */
+@Component
+public class AnalyticsResultCache {
+
+    private final LedgerVersionService ledgerVersionService;
+    private final Cache<Key, Object> cache;
+
+    public AnalyticsResultCache(
+            LedgerVersionService ledgerVersionService,
+            @Value("${capofinance.analytics.cache.max-entries:500}") long maxEntries) {
+        this.ledgerVersionService = ledgerVersionService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String query, List<?> parameters, Supplier<T> loader) {
+        Key key = new Key(query, parameters, ledgerVersionService.current());
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    @Data
+    private static class Key {
+        private final String query;
+        private final List<?> parameters;
+        private final long ledgerVersion;
+    }
+}
@@ -0,0 +1,206 @@
+package com.capofinance.application.analytics;
+
+import com.capofinance.application.tagging.TagNormalizer;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Dashboard aggregates over the transactions table
+ * Results are served from AnalyticsResultCache until the next ledger write.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private final TransactionRepository transactionRepository;
+    private final AnalyticsResultCache resultCache;
+
+    public BigDecimal getTotalByType(TransactionEntity.TransactionType type, LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("totalByType", List.of(type, start, end), () -> {
+            BigDecimal total = transactionRepository.getTotalByType(type, start, end);
+            return total != null ? total : BigDecimal.ZERO;
+        });
+    }
+
+    public List<MonthlySummary> getMonthlySummary(LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("monthlySummary", List.of(start, end), () ->
+                transactionRepository.getMonthlySummary(start, end).stream()
+                        .map(row -> MonthlySummary.builder()
+                                .month(toLocalDateTime(row[0]))
+                                .transactionType(row[1].toString())
+                                .count(((Number) row[2]).longValue())
+                                .total((BigDecimal) row[3])
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<SpendingBreakdown> getSpendingByCategory(LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("spendingByCategory", List.of(start, end), () ->
+                transactionRepository.getSpendingByCategory(start, end).stream()
+                        .map(row -> SpendingBreakdown.builder()
+                                .name((String) row[0])
+                                .total((BigDecimal) row[1])
+                                .count(((Number) row[2]).longValue())
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<SpendingBreakdown> getSpendingBySubcategory(LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("spendingBySubcategory", List.of(start, end), () ->
+                transactionRepository.getSpendingBySubcategory(start, end).stream()
+                        .map(row -> SpendingBreakdown.builder()
+                                .parentName((String) row[0])
+                                .name((String) row[1])
+                                .total((BigDecimal) row[2])
+                                .count(((Number) row[3]).longValue())
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<SpendingBreakdown> getSpendingByPerson(LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("spendingByPerson", List.of(start, end), () ->
+                transactionRepository.getSpendingByPerson(start, end).stream()
+                        .map(row -> SpendingBreakdown.builder()
+                                .name((String) row[0])
+                                .total((BigDecimal) row[1])
+                                .count(((Number) row[2]).longValue())
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<TopExpense> getTopExpenses(LocalDateTime start, LocalDateTime end, int limit) {
+        return resultCache.get("topExpenses", List.of(start, end, limit), () ->
+                transactionRepository.getTopExpenses(start, end, PageRequest.of(0, limit)).stream()
+                        .map(TopExpense::from)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<MerchantSpending> getTopMerchants(LocalDateTime start, LocalDateTime end, int limit) {
+        return resultCache.get("topMerchants", List.of(start, end, limit), () ->
+                transactionRepository.getTopMerchants(start, end, limit).stream()
+                        .map(row -> MerchantSpending.builder()
+                                .merchantId(((Number) row[0]).longValue())
+                                .name((String) row[1])
+                                .total((BigDecimal) row[2])
+                                .count(((Number) row[3]).longValue())
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public List<MonthlySummary> getMerchantTrend(Long merchantId, LocalDateTime start, LocalDateTime end) {
+        return resultCache.get("merchantTrend", List.of(merchantId, start, end), () ->
+                transactionRepository.getMerchantMonthlyTrend(merchantId, start, end).stream()
+                        .map(row -> MonthlySummary.builder()
+                                .month(toLocalDateTime(row[0]))
+                                .transactionType(row[1].toString())
+                                .count(((Number) row[2]).longValue())
+                                .total((BigDecimal) row[3])
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Daily cash flow of a year per person and account/card, read from the V17 daily
+     * aggregates; null filters select every person or source
+     */
+    public List<CalendarSeries> getCashFlowCalendar(Year year, Long personId, String sourceType, Long sourceId) {
+        return resultCache.get("cashFlowCalendar", Arrays.asList(year, personId, sourceType, sourceId), () -> {
+            int days = year.length();
+            Map<List<Object>, CalendarSeries> series = new HashMap<>();
+            for (Object[] row : transactionRepository.getDailyCashFlow(
+                    year.atDay(1), year.atDay(days), personId, sourceType, sourceId)) {
+                Long rowPersonId = ((Number) row[1]).longValue();
+                String rowSourceType = (String) row[2];
+                Long rowSourceId = ((Number) row[3]).longValue();
+                CalendarSeries target = series.computeIfAbsent(List.of(rowPersonId, rowSourceType, rowSourceId),
+                        key -> CalendarSeries.builder()
+                                .personId(rowPersonId)
+                                .sourceType(rowSourceType)
+                                .sourceId(rowSourceId)
+                                .income(new ArrayList<>(Collections.nCopies(days, BigDecimal.ZERO)))
+                                .expense(new ArrayList<>(Collections.nCopies(days, BigDecimal.ZERO)))
+                                .counts(new ArrayList<>(Collections.nCopies(days, 0)))
+                                .build());
+
+                int index = toLocalDate(row[0]).getDayOfYear() - 1;
+                target.getIncome().set(index, (BigDecimal) row[4]);
+                target.getExpense().set(index, (BigDecimal) row[5]);
+                target.getCounts().set(index, ((Number) row[6]).intValue());
+            }
+            series.values().forEach(target -> {
+                target.setIncome(List.copyOf(target.getIncome()));
+                target.setExpense(List.copyOf(target.getExpense()));
+                target.setCounts(List.copyOf(target.getCounts()));
+            });
+            return series.values().stream()
+                    .sorted(Comparator.comparing(CalendarSeries::getPersonId)
+                            .thenComparing(CalendarSeries::getSourceType)
+                            .thenComparing(CalendarSeries::getSourceId))
+                    .collect(Collectors.toUnmodifiableList());
+        });
+    }
+
+    /**
+     * Totals of transactions carrying all of the given tags; null bounds cover the whole history
+     */
+    public TagSummary getTagSummary(List<String> tags, LocalDateTime start, LocalDateTime end) {
+        List<String> normalized = List.copyOf(TagNormalizer.normalize(tags));
+        String literal = TagNormalizer.toArrayLiteral(normalized);
+        return resultCache.get("tagSummary", Arrays.asList(normalized, start, end), () -> {
+            long count = 0;
+            BigDecimal income = BigDecimal.ZERO;
+            BigDecimal expense = BigDecimal.ZERO;
+            for (Object[] row : transactionRepository.getTotalsByTags(literal, start, end)) {
+                count += ((Number) row[1]).longValue();
+                if ("INCOME".equals(row[0])) {
+                    income = (BigDecimal) row[2];
+                } else if ("EXPENSE".equals(row[0])) {
+                    expense = (BigDecimal) row[2];
+                }
+            }
+            return TagSummary.builder()
+                    .tags(normalized)
+                    .count(count)
+                    .totalIncome(income)
+                    .totalExpense(expense)
+                    .expensesByCategory(transactionRepository.getSpendingByCategoryForTags(literal, start, end).stream()
+                            .map(row -> SpendingBreakdown.builder()
+                                    .name((String) row[0])
+                                    .total((BigDecimal) row[1])
+                                    .count(((Number) row[2]).longValue())
+                                    .build())
+                            .collect(Collectors.toUnmodifiableList()))
+                    .build();
+        });
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        // DATE_TRUNC comes back untyped from JPQL and native queries, usually as java.sql.Timestamp
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
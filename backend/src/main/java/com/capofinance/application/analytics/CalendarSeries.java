@@ -0,0 +1,22 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Daily income/expense of one person on one account or card over a year
+ * Lists hold one entry per day of the year (index = day of year - 1), zero when idle.
+ */
+@Data
+@Builder
+public class CalendarSeries {
+    private Long personId;
+    private String sourceType;
+    private Long sourceId;
+    private List<BigDecimal> income;
+    private List<BigDecimal> expense;
+    private List<Integer> counts;
+}
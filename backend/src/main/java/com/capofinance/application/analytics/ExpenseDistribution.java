@@ -0,0 +1,17 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Expense distribution of a period, overall and per category/person (largest total first)
+ */
+@Data
+@Builder
+public class ExpenseDistribution {
+    private AmountDistribution overall;
+    private List<AmountDistribution> byCategory;
+    private List<AmountDistribution> byPerson;
+}
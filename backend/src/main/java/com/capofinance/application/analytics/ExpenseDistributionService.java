@@ -0,0 +1,159 @@
+package com.capofinance.application.analytics;
+
+import com.capofinance.domain.CategoryEntity;
+import com.capofinance.domain.PersonEntity;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Top-N expenses and amount percentiles, overall and per category and person
+ * The expenses of the period are read once through a forward-only cursor. Each group
+ * keeps a count, a total, a QuantileSketch and a min-heap bounded to the requested top
+ * size, so memory depends on the top size and number of groups, not on the row count.
+ * Only ids are kept in the heaps; the winning rows are loaded at the end and copied
+ * into TopExpense values before they are cached.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExpenseDistributionService {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final String UNCATEGORIZED = "Uncategorized";
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final PersonRepository personRepository;
+    private final AnalyticsResultCache resultCache;
+
+    /**
+     * Read-only transaction: the PostgreSQL driver only streams with a cursor inside one
+     */
+    @Transactional(readOnly = true)
+    public ExpenseDistribution getDistribution(LocalDateTime start, LocalDateTime end, int topSize) {
+        return resultCache.get("expenseDistribution", List.of(start, end, topSize), () -> {
+            Accumulator overall = new Accumulator(topSize);
+            Map<Long, Accumulator> byCategory = new HashMap<>();
+            Map<Long, Accumulator> byPerson = new HashMap<>();
+
+            try (Stream<Object[]> rows = transactionRepository.streamExpenses(start, end)) {
+                rows.forEach(row -> {
+                    long id = ((Number) row[0]).longValue();
+                    BigDecimal amount = (BigDecimal) row[1];
+                    overall.add(id, amount);
+                    byCategory.computeIfAbsent(toLong(row[2]), key -> new Accumulator(topSize)).add(id, amount);
+                    byPerson.computeIfAbsent(toLong(row[3]), key -> new Accumulator(topSize)).add(id, amount);
+                });
+            }
+
+            Set<Long> topIds = new HashSet<>(overall.topIds());
+            byCategory.values().forEach(group -> topIds.addAll(group.topIds()));
+            byPerson.values().forEach(group -> topIds.addAll(group.topIds()));
+            Map<Long, TopExpense> expenses = transactionRepository.findAllById(topIds).stream()
+                    .collect(Collectors.toMap(TransactionEntity::getId, TopExpense::from));
+
+            return ExpenseDistribution.builder()
+                    .overall(overall.toDistribution(null, expenses))
+                    .byCategory(toDistributions(byCategory, categoryId -> categoryId == null
+                            ? UNCATEGORIZED
+                            : categoryRepository.findById(categoryId).map(CategoryEntity::getName).orElse(UNCATEGORIZED),
+                            expenses))
+                    .byPerson(toDistributions(byPerson, personId -> personId == null
+                            ? null
+                            : personRepository.findById(personId).map(PersonEntity::getName).orElse(null),
+                            expenses))
+                    .build();
+        });
+    }
+
+    private static List<AmountDistribution> toDistributions(
+            Map<Long, Accumulator> groups,
+            Function<Long, String> names,
+            Map<Long, TopExpense> expenses) {
+        return groups.entrySet().stream()
+                .map(group -> group.getValue().toDistribution(names.apply(group.getKey()), expenses))
+                .sorted(Comparator.comparing(AmountDistribution::getTotal).reversed())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    static class Accumulator {
+
+        private final int topSize;
+        private final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+        // Smallest amount of the current top on the head, evicted when a larger one arrives
+        private final PriorityQueue<TopEntry> top = new PriorityQueue<>(Comparator.comparing((TopEntry entry) -> entry.amount));
+        private long count;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        Accumulator(int topSize) {
+            this.topSize = topSize;
+        }
+
+        void add(long id, BigDecimal amount) {
+            count++;
+            total = total.add(amount);
+            sketch.add(amount);
+            if (top.size() < topSize) {
+                top.add(new TopEntry(id, amount));
+            } else if (amount.compareTo(top.peek().amount) > 0) {
+                top.poll();
+                top.add(new TopEntry(id, amount));
+            }
+        }
+
+        List<Long> topIds() {
+            return top.stream().map(entry -> entry.id).toList();
+        }
+
+        AmountDistribution toDistribution(String name, Map<Long, TopExpense> expenses) {
+            List<TopEntry> largestFirst = new ArrayList<>(top);
+            largestFirst.sort(Comparator.comparing((TopEntry entry) -> entry.amount).reversed());
+
+            return AmountDistribution.builder()
+                    .name(name)
+                    .count(count)
+                    .total(total)
+                    .p50(sketch.quantile(0.50))
+                    .p90(sketch.quantile(0.90))
+                    .p99(sketch.quantile(0.99))
+                    .top(largestFirst.stream()
+                            .map(entry -> expenses.get(entry.id))
+                            .filter(expense -> expense != null)
+                            .toList())
+                    .build();
+        }
+    }
+
+    private static class TopEntry {
+
+        private final long id;
+        private final BigDecimal amount;
+
+        TopEntry(long id, BigDecimal amount) {
+            this.id = id;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.capofinance.application.analytics;
+
+import com.capofinance.infrastructure.LedgerVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the ledger (transactions and their categories)
+ * Every write that changes analytics results bumps the ledger_version row in its
+ * own transaction; the in-memory copy only advances after that transaction commits,
+ * so a cached result can never be stored under a version newer than its data.
+ * Bumps made by other instances are picked up by polling.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerVersionService {
+
+    private final LedgerVersionRepository ledgerVersionRepository;
+
+    private final AtomicLong version = new AtomicLong(-1);
+
+    public long current() {
+        long current = version.get();
+        if (current < 0) {
+            refresh();
+            current = version.get();
+        }
+        return current;
+    }
+
+    /**
+     * Marks the ledger as changed; joins the caller's transaction if there is one
+     */
+    @Transactional
+    public void bump() {
+        ledgerVersionRepository.increment();
+        long bumped = ledgerVersionRepository.getVersion();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advanceTo(bumped);
+                }
+            });
+        } else {
+            advanceTo(bumped);
+        }
+    }
+
+    /**
+     * Picks up bumps committed by other backend instances
+     */
+    @Scheduled(fixedDelayString = "${capofinance.analytics.ledger-refresh-interval-ms:5000}")
+    public void refresh() {
+        Long stored = ledgerVersionRepository.getVersion();
+        if (stored != null) {
+            advanceTo(stored);
+        }
+    }
+
+    private void advanceTo(long newVersion) {
+        version.accumulateAndGet(newVersion, Math::max);
+    }
+}
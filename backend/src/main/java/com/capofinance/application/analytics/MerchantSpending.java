@@ -0,0 +1,18 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Expense total of one merchant in a period
+ */
+@Data
+@Builder
+public class MerchantSpending {
+    private Long merchantId;
+    private String name;
+    private BigDecimal total;
+    private long count;
+}
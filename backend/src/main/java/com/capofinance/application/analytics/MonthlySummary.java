@@ -0,0 +1,19 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Totals of one transaction type in one month
+ */
+@Data
+@Builder
+public class MonthlySummary {
+    private LocalDateTime month;
+    private String transactionType;
+    private long count;
+    private BigDecimal total;
+}
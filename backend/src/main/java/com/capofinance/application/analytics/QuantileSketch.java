@@ -0,0 +1,61 @@
+package com.capofinance.application.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Streaming quantile estimate with bounded relative error
+ * Values are counted in logarithmic buckets (gamma = (1 + a) / (1 - a)), so every
+ * quantile is within a relative error a of the exact one, using memory proportional
+ * to the number of buckets hit (a few hundred from cents to millions), not to the
+ * number of values. Non-positive values share a single zero bucket.
+ */
+class QuantileSketch {
+
+    private final double gamma;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    QuantileSketch(double relativeAccuracy) {
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    void add(BigDecimal value) {
+        count++;
+        double v = value.doubleValue();
+        if (v <= 0) {
+            zeroCount++;
+            return;
+        }
+        buckets.merge((int) Math.ceil(Math.log(v) / logGamma), 1L, Long::sum);
+    }
+
+    /**
+     * Value at quantile q (0..1), null when nothing was added
+     */
+    BigDecimal quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = zeroCount;
+        if (rank <= seen) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                // Midpoint (in relative terms) of (gamma^(i-1), gamma^i]
+                double value = 2 * Math.pow(gamma, bucket.getKey()) / (gamma + 1);
+                return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+            }
+        }
+        return null;
+    }
+}
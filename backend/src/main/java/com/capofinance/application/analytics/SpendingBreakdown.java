@@ -0,0 +1,18 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Expense total of one group (category, subcategory or person) in a period
+ */
+@Data
+@Builder
+public class SpendingBreakdown {
+    private String name;
+    private String parentName;
+    private BigDecimal total;
+    private long count;
+}
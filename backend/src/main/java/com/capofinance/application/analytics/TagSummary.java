@@ -0,0 +1,20 @@
+package com.capofinance.application.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Totals of the transactions carrying a set of tags
+ */
+@Data
+@Builder
+public class TagSummary {
+    private List<String> tags;
+    private long count;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private List<SpendingBreakdown> expensesByCategory;
+}
@@ -0,0 +1,57 @@
+package com.capofinance.application.analytics;
+
+import com.capofinance.domain.TransactionEntity;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable copy of one expense row, safe to keep in AnalyticsResultCache
+ * Cached results outlive the persistence context that loaded them, so no entity is kept.
+ */
+@Value
+@Builder
+public class TopExpense {
+    Long id;
+    TransactionEntity.SourceType sourceType;
+    Long importId;
+    LocalDateTime transactionDate;
+    String description;
+    BigDecimal amount;
+    BigDecimal balanceAfter;
+    String installmentInfo;
+    String cardHolder;
+    TransactionEntity.TransactionType transactionType;
+    Long accountId;
+    Long creditCardId;
+    Long personId;
+    Long categoryId;
+    Long subcategoryId;
+    String notes;
+    List<String> tags;
+
+    public static TopExpense from(TransactionEntity entity) {
+        return TopExpense.builder()
+                .id(entity.getId())
+                .sourceType(entity.getSourceType())
+                .importId(entity.getImportId())
+                .transactionDate(entity.getTransactionDate())
+                .description(entity.getDescription())
+                .amount(entity.getAmount())
+                .balanceAfter(entity.getBalanceAfter())
+                .installmentInfo(entity.getInstallmentInfo())
+                .cardHolder(entity.getCardHolder())
+                .transactionType(entity.getTransactionType())
+                .accountId(entity.getAccountId())
+                .creditCardId(entity.getCreditCardId())
+                .personId(entity.getPersonId())
+                .categoryId(entity.getCategoryId())
+                .subcategoryId(entity.getSubcategoryId())
+                .notes(entity.getNotes())
+                .tags(entity.getTags() != null ? List.of(entity.getTags()) : List.of())
+                .build();
+    }
+}
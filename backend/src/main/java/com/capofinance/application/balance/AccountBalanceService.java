@@ -0,0 +1,113 @@
+package com.capofinance.application.balance;
+
+import com.capofinance.application.analytics.AnalyticsResultCache;
+import com.capofinance.infrastructure.AccountRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Account balances reconstructed from the balance_after of statement rows
+ * The chain check and the daily series are single ordered queries over
+ * idx_transactions_account_date, cached until the next ledger write.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AnalyticsResultCache resultCache;
+
+    /**
+     * Moves current_balance to the latest statement row; safe to repeat
+     */
+    public void refreshCurrentBalance(Long accountId) {
+        accountRepository.refreshCurrentBalance(accountId);
+    }
+
+    public Optional<BalanceVerification> verify(Long accountId) {
+        return accountRepository.findById(accountId).map(account -> BalanceVerification.builder()
+                .accountId(accountId)
+                .checkedRows(resultCache.get("balanceRowCount", List.of(accountId), () ->
+                        transactionRepository.countByAccountIdAndBalanceAfterIsNotNull(accountId)))
+                .currentBalance(account.getCurrentBalance())
+                .breaks(resultCache.get("balanceBreaks", List.of(accountId), () ->
+                        transactionRepository.findBalanceBreaks(accountId).stream()
+                                .map(this::toBreak)
+                                .collect(Collectors.toUnmodifiableList())))
+                .build());
+    }
+
+    /**
+     * Closing balance per day, downsampled to at most maxPoints by keeping the
+     * closing balance of each group of consecutive days
+     */
+    public Optional<List<DailyBalance>> getDailyBalances(Long accountId, LocalDateTime start, LocalDateTime end, int maxPoints) {
+        if (maxPoints < 2) {
+            throw new IllegalArgumentException("points must be at least 2");
+        }
+        if (!accountRepository.existsById(accountId)) {
+            return Optional.empty();
+        }
+        List<DailyBalance> daily = resultCache.get("dailyBalances", List.of(accountId, start, end), () ->
+                transactionRepository.getDailyClosingBalances(accountId, start, end).stream()
+                        .map(row -> DailyBalance.builder()
+                                .date(toLocalDate(row[0]))
+                                .balance((BigDecimal) row[1])
+                                .build())
+                        .collect(Collectors.toUnmodifiableList()));
+        return Optional.of(downsample(daily, maxPoints));
+    }
+
+    private List<DailyBalance> downsample(List<DailyBalance> daily, int maxPoints) {
+        if (daily.size() <= maxPoints) {
+            return daily;
+        }
+        int bucketSize = (daily.size() + maxPoints - 1) / maxPoints;
+        List<DailyBalance> sampled = new ArrayList<>(maxPoints);
+        for (int i = bucketSize - 1; i < daily.size(); i += bucketSize) {
+            sampled.add(daily.get(i));
+        }
+        DailyBalance last = daily.get(daily.size() - 1);
+        if (sampled.get(sampled.size() - 1) != last) {
+            sampled.add(last);
+        }
+        return sampled;
+    }
+
+    private BalanceBreak toBreak(Object[] row) {
+        BigDecimal balanceAfter = (BigDecimal) row[4];
+        BigDecimal expected = (BigDecimal) row[7];
+        return BalanceBreak.builder()
+                .transactionId(((Number) row[0]).longValue())
+                .transactionDate(toLocalDateTime(row[1]))
+                .description((String) row[2])
+                .signedAmount((BigDecimal) row[3])
+                .balanceAfter(balanceAfter)
+                .previousTransactionId(((Number) row[5]).longValue())
+                .previousTransactionDate(toLocalDateTime(row[6]))
+                .expectedBalance(expected)
+                .difference(balanceAfter.subtract(expected))
+                .kind(BalanceBreak.Kind.valueOf((String) row[8]))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
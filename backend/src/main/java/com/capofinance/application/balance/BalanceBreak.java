@@ -0,0 +1,31 @@
+package com.capofinance.application.balance;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A statement row whose balance does not follow from the previous row
+ */
+@Data
+@Builder
+public class BalanceBreak {
+
+    private Long transactionId;
+    private LocalDateTime transactionDate;
+    private String description;
+    private BigDecimal signedAmount;
+    private BigDecimal balanceAfter;
+    private BigDecimal expectedBalance;
+    private BigDecimal difference; // balanceAfter - expectedBalance, the net amount of the missing rows
+    private Long previousTransactionId;
+    private LocalDateTime previousTransactionDate;
+    private Kind kind;
+
+    public enum Kind {
+        GAP,       // rows missing between the previous row and this one
+        DUPLICATE  // same row imported twice; the bank balance did not move
+    }
+}
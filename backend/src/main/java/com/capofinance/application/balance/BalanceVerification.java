@@ -0,0 +1,23 @@
+package com.capofinance.application.balance;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Result of checking the balance chain of an account
+ */
+@Data
+@Builder
+public class BalanceVerification {
+    private Long accountId;
+    private long checkedRows;
+    private BigDecimal currentBalance;
+    private List<BalanceBreak> breaks;
+
+    public boolean isConsistent() {
+        return breaks.isEmpty();
+    }
+}
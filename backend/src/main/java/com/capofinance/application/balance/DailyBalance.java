@@ -0,0 +1,17 @@
+package com.capofinance.application.balance;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Closing balance of a day
+ */
+@Data
+@Builder
+public class DailyBalance {
+    private LocalDate date;
+    private BigDecimal balance;
+}
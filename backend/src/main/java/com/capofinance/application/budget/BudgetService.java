@@ -0,0 +1,108 @@
+package com.capofinance.application.budget;
+
+import com.capofinance.domain.BudgetEntity;
+import com.capofinance.infrastructure.BudgetRepository;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Monthly budgets: planned amounts vs actual expenses
+ * actual_amount is maintained incrementally by the transactions_budget_actuals
+ * trigger (V11) from every insert, recategorization and delete of a transaction,
+ * so reading a month is a single indexed lookup.
+ */
+@Service
+@RequiredArgsConstructor
+public class BudgetService {
+
+    private final BudgetRepository budgetRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final PersonRepository personRepository;
+
+    public List<BudgetEntity> findByMonth(String monthYear) {
+        return budgetRepository.findByMonthYearOrderByCategoryIdAscSubcategoryIdAscPersonIdAsc(normalizeMonth(monthYear));
+    }
+
+    @Transactional
+    public BudgetEntity create(BudgetEntity budget) {
+        budget.setMonthYear(normalizeMonth(budget.getMonthYear()));
+        validate(budget);
+
+        budgetRepository.lockForCreate();
+        BudgetEntity saved = budgetRepository.save(budget);
+        budgetRepository.initializeActual(saved.getId());
+        return budgetRepository.findById(saved.getId()).orElseThrow();
+    }
+
+    /**
+     * Only planned amount and notes can change; a different scope or month is a different budget
+     */
+    @Transactional
+    public Optional<BudgetEntity> update(Long id, BigDecimal plannedAmount, String notes) {
+        return budgetRepository.findById(id).map(budget -> {
+            if (plannedAmount != null) {
+                validatePlannedAmount(plannedAmount);
+                budget.setPlannedAmount(plannedAmount);
+            }
+            if (notes != null) {
+                budget.setNotes(notes);
+            }
+            return budgetRepository.save(budget);
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        if (!budgetRepository.existsById(id)) {
+            return false;
+        }
+        budgetRepository.deleteById(id);
+        return true;
+    }
+
+    private void validate(BudgetEntity budget) {
+        validatePlannedAmount(budget.getPlannedAmount());
+        if (budget.getCategoryId() != null && !categoryRepository.existsById(budget.getCategoryId())) {
+            throw new IllegalArgumentException("categoryId must reference an existing category");
+        }
+        if (budget.getSubcategoryId() != null) {
+            boolean belongsToCategory = subcategoryRepository.findById(budget.getSubcategoryId())
+                    .map(subcategory -> subcategory.getCategoryId().equals(budget.getCategoryId()))
+                    .orElse(false);
+            if (!belongsToCategory) {
+                throw new IllegalArgumentException("subcategoryId must belong to categoryId");
+            }
+        }
+        if (budget.getPersonId() != null && !personRepository.existsById(budget.getPersonId())) {
+            throw new IllegalArgumentException("personId must reference an existing person");
+        }
+    }
+
+    private void validatePlannedAmount(BigDecimal plannedAmount) {
+        if (plannedAmount == null || plannedAmount.signum() < 0) {
+            throw new IllegalArgumentException("plannedAmount must be zero or positive");
+        }
+    }
+
+    private String normalizeMonth(String monthYear) {
+        if (monthYear == null) {
+            throw new IllegalArgumentException("month is required (YYYY-MM)");
+        }
+        try {
+            return YearMonth.parse(monthYear).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("month must be formatted as YYYY-MM");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.capofinance.application.cache;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Hit/miss counters of one second-level cache region
+ */
+@Data
+@Builder
+public class CacheRegionSnapshot {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long elementsInMemory;
+}
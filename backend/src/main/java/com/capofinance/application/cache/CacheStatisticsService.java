@@ -0,0 +1,45 @@
+package com.capofinance.application.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Exposes the Hibernate second-level cache statistics per region
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionSnapshot> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toSnapshot(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CacheRegionSnapshot toSnapshot(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        return CacheRegionSnapshot.builder()
+                .region(region)
+                .hits(stats.getHitCount())
+                .misses(stats.getMissCount())
+                .puts(stats.getPutCount())
+                .elementsInMemory(stats.getElementCountInMemory())
+                .build();
+    }
+}
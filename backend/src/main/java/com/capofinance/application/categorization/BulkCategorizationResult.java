@@ -0,0 +1,19 @@
+package com.capofinance.application.categorization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk categorization
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCategorizationResult {
+    private int updatedRows;
+    private Long categoryId;
+    private Long subcategoryId;
+}
@@ -0,0 +1,118 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.MerchantRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Categorizes many transactions with a single set-based UPDATE
+ * Transactions are selected by a list of ids, by merchant (merchant_id of the
+ * normalized key) or by free text in the description; nothing is loaded into the JVM.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkCategorizationService {
+
+    private static final int MAX_IDS = 10_000;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final MerchantRepository merchantRepository;
+    private final MerchantMemoryService merchantMemoryService;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
+
+    public BulkCategorizationResult categorize(
+            List<Long> ids,
+            String descriptionContains,
+            String merchantKey,
+            boolean onlyUncategorized,
+            Long categoryId,
+            Long subcategoryId) {
+
+        validateTarget(categoryId, subcategoryId);
+
+        int updated;
+        if (ids != null && !ids.isEmpty()) {
+            if (ids.size() > MAX_IDS) {
+                throw new IllegalArgumentException("At most " + MAX_IDS + " ids per request");
+            }
+            updated = transactionRepository.updateCategoryByIds(ids, onlyUncategorized, categoryId, subcategoryId);
+        } else if (merchantKey != null && !merchantKey.isBlank()) {
+            String normalized = MerchantKeyNormalizer.normalize(merchantKey);
+            // Only digits, dates or punctuation: an empty key would match every transaction
+            if (normalized.isEmpty()) {
+                throw new IllegalArgumentException("merchantKey must contain a merchant name");
+            }
+            updated = transactionRepository.updateCategoryByMerchant(
+                    merchantRepository.findIdByMerchantKey(normalized).orElse(null),
+                    merchantPattern(normalized), onlyUncategorized, categoryId, subcategoryId);
+            // A bulk decision on a merchant is as strong a signal as a single correction
+            merchantMemoryService.learn(normalized, categoryId, subcategoryId);
+        } else if (descriptionContains != null && !descriptionContains.isBlank()) {
+            updated = transactionRepository.updateCategoryByDescription(
+                    "%" + escapeLike(descriptionContains.trim().toLowerCase(Locale.ROOT)) + "%",
+                    onlyUncategorized, categoryId, subcategoryId);
+        } else {
+            throw new IllegalArgumentException("ids, merchantKey or descriptionContains is required");
+        }
+
+        if (updated > 0) {
+            ledgerVersionService.bump();
+            ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                    .type(LedgerChangeEvent.Type.TRANSACTIONS_RECATEGORIZED)
+                    .transactionIds(LedgerChangeEvent.compactIds(ids))
+                    .updatedRows(updated)
+                    .categoryId(categoryId)
+                    .subcategoryId(subcategoryId)
+                    .build());
+        }
+
+        return BulkCategorizationResult.builder()
+                .updatedRows(updated)
+                .categoryId(categoryId)
+                .subcategoryId(subcategoryId)
+                .build();
+    }
+
+    private void validateTarget(Long categoryId, Long subcategoryId) {
+        if (categoryId == null || !categoryRepository.existsById(categoryId)) {
+            throw new IllegalArgumentException("categoryId must reference an existing category");
+        }
+        if (subcategoryId != null) {
+            boolean belongsToCategory = subcategoryRepository.findById(subcategoryId)
+                    .map(subcategory -> categoryId.equals(subcategory.getCategoryId()))
+                    .orElse(false);
+            if (!belongsToCategory) {
+                throw new IllegalArgumentException("subcategoryId must belong to the given category");
+            }
+        }
+    }
+
+    /**
+     * Fallback for rows not linked to a merchant yet. Merchant keys drop dates, ids and
+     * punctuation, so the tokens are matched in order with anything in between:
+     * "uber trip" -> "%uber%trip%"
+     */
+    private String merchantPattern(String merchantKey) {
+        StringBuilder pattern = new StringBuilder("%");
+        for (String token : merchantKey.split(" ")) {
+            pattern.append(escapeLike(token)).append('%');
+        }
+        return pattern.toString();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
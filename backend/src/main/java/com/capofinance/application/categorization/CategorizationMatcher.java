@@ -0,0 +1,151 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategorizationRuleEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+/**
+ * Immutable matcher compiled from a set of categorization rules
+ * CONTAINS and STARTS_WITH patterns are compiled into an Aho-Corasick automaton, so a
+ * description is scanned once regardless of how many rules exist; EQUALS patterns are a
+ * hash lookup. A new instance is built on every rule change and swapped in atomically,
+ * so an import that holds on to an instance sees a single consistent rule set.
+ */
+public final class CategorizationMatcher {
+
+    public static final CategorizationMatcher EMPTY = compile(0, Collections.emptyList());
+
+    private final long version;
+    private final int ruleCount;
+    private final Map<String, CompiledRule> equalsRules;
+    private final List<CompiledRule> patternRules;
+    private final List<Map<Character, Integer>> transitions;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private CategorizationMatcher(
+            long version,
+            int ruleCount,
+            Map<String, CompiledRule> equalsRules,
+            List<CompiledRule> patternRules,
+            List<Map<Character, Integer>> transitions,
+            int[] failure,
+            int[][] outputs) {
+        this.version = version;
+        this.ruleCount = ruleCount;
+        this.equalsRules = equalsRules;
+        this.patternRules = patternRules;
+        this.transitions = transitions;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    public static CategorizationMatcher compile(long version, List<CompiledRule> rules) {
+        Map<String, CompiledRule> equalsRules = new HashMap<>();
+        List<CompiledRule> patternRules = new ArrayList<>();
+
+        for (CompiledRule rule : rules) {
+            if (rule.getMatchType() == CategorizationRuleEntity.MatchType.EQUALS) {
+                equalsRules.merge(rule.getPattern(), rule, (current, candidate) -> candidate.beats(current) ? candidate : current);
+            } else {
+                patternRules.add(rule);
+            }
+        }
+
+        // Trie of all patterns
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int ruleIndex = 0; ruleIndex < patternRules.size(); ruleIndex++) {
+            String pattern = patternRules.get(ruleIndex).getPattern();
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = transitions.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    transitions.get(state).put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            nodeOutputs.get(state).add(ruleIndex);
+        }
+
+        // Failure links (breadth-first), merging the outputs of each failure target
+        int[] failure = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[node];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = transitions.get(fallback).getOrDefault(edge.getKey(), 0);
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        int[][] outputs = new int[nodeOutputs.size()][];
+        for (int node = 0; node < outputs.length; node++) {
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new CategorizationMatcher(version, rules.size(), equalsRules, patternRules, transitions, failure, outputs);
+    }
+
+    public Optional<CompiledRule> match(String description) {
+        if (description == null) {
+            return Optional.empty();
+        }
+
+        String text = description.toLowerCase(Locale.ROOT);
+        CompiledRule best = equalsRules.get(text.trim());
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure[state];
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+
+            for (int ruleIndex : outputs[state]) {
+                CompiledRule rule = patternRules.get(ruleIndex);
+                boolean isPrefix = i + 1 == rule.getPattern().length();
+                if (rule.getMatchType() == CategorizationRuleEntity.MatchType.STARTS_WITH && !isPrefix) {
+                    continue;
+                }
+                if (rule.beats(best)) {
+                    best = rule;
+                }
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+}
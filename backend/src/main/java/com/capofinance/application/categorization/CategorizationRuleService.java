@@ -0,0 +1,180 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategorizationRuleEntity;
+import com.capofinance.domain.PersonEntity;
+import com.capofinance.domain.SubcategoryEntity;
+import com.capofinance.infrastructure.CategorizationRuleRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CRUD for categorization rules and owner of the compiled matcher
+ * Every change recompiles the matcher and swaps it in atomically. Changes made by
+ * other instances are picked up by a periodic check of a cheap change marker.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategorizationRuleService {
+
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final PersonRepository personRepository;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile CategorizationMatcher matcher;
+    private volatile List<Object> changeMarker;
+
+    /**
+     * Current compiled rules; callers should keep the returned instance for a whole import
+     */
+    public CategorizationMatcher currentMatcher() {
+        CategorizationMatcher current = matcher;
+        return current != null ? current : reload();
+    }
+
+    public List<CategorizationRuleEntity> findAll() {
+        return categorizationRuleRepository.findAllByOrderByPriorityDescPatternAsc();
+    }
+
+    public CategorizationRuleEntity create(CategorizationRuleEntity rule) {
+        validate(rule);
+        rule.setId(null);
+        rule.setPattern(rule.getPattern().trim().toLowerCase(Locale.ROOT));
+        if (rule.getPriority() == null) {
+            rule.setPriority(0);
+        }
+        if (rule.getIsActive() == null) {
+            rule.setIsActive(true);
+        }
+
+        CategorizationRuleEntity saved = categorizationRuleRepository.save(rule);
+        reload();
+        return saved;
+    }
+
+    /**
+     * Applies the non-null fields of changes; clearPerson removes the person override,
+     * which a null personId cannot express
+     */
+    public Optional<CategorizationRuleEntity> update(Long id, CategorizationRuleEntity changes, boolean clearPerson) {
+        return categorizationRuleRepository.findById(id).map(rule -> {
+            if (changes.getPattern() != null) {
+                rule.setPattern(changes.getPattern().trim().toLowerCase(Locale.ROOT));
+            }
+            if (changes.getMatchType() != null) {
+                rule.setMatchType(changes.getMatchType());
+            }
+            if (changes.getPriority() != null) {
+                rule.setPriority(changes.getPriority());
+            }
+            if (changes.getSubcategoryId() != null) {
+                rule.setSubcategoryId(changes.getSubcategoryId());
+            }
+            if (clearPerson) {
+                rule.setPersonId(null);
+            } else if (changes.getPersonId() != null) {
+                rule.setPersonId(changes.getPersonId());
+            }
+            if (changes.getIsActive() != null) {
+                rule.setIsActive(changes.getIsActive());
+            }
+            validate(rule);
+
+            CategorizationRuleEntity saved = categorizationRuleRepository.save(rule);
+            reload();
+            return saved;
+        });
+    }
+
+    public boolean delete(Long id) {
+        if (!categorizationRuleRepository.existsById(id)) {
+            return false;
+        }
+        categorizationRuleRepository.deleteById(id);
+        reload();
+        return true;
+    }
+
+    /**
+     * Recompiles the active rules and publishes the new matcher
+     */
+    public synchronized CategorizationMatcher reload() {
+        changeMarker = readChangeMarker();
+
+        List<CategorizationRuleEntity> rules = categorizationRuleRepository.findByIsActiveTrue();
+
+        Map<Long, SubcategoryEntity> subcategories = subcategoryRepository.findAllById(
+                        rules.stream().map(CategorizationRuleEntity::getSubcategoryId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(SubcategoryEntity::getId, Function.identity()));
+
+        Map<Long, String> personNames = personRepository.findAllById(
+                        rules.stream().map(CategorizationRuleEntity::getPersonId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(PersonEntity::getId, PersonEntity::getName));
+
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        for (CategorizationRuleEntity rule : rules) {
+            SubcategoryEntity subcategory = subcategories.get(rule.getSubcategoryId());
+            if (subcategory == null || rule.getPattern() == null || rule.getPattern().isBlank()) {
+                continue;
+            }
+            compiled.add(new CompiledRule(
+                    rule.getId(),
+                    rule.getPattern().toLowerCase(Locale.ROOT),
+                    rule.getMatchType(),
+                    rule.getPriority() != null ? rule.getPriority() : 0,
+                    subcategory.getCategoryId(),
+                    subcategory.getId(),
+                    rule.getPersonId() != null ? personNames.get(rule.getPersonId()) : null));
+        }
+
+        CategorizationMatcher compiledMatcher = CategorizationMatcher.compile(versionSequence.incrementAndGet(), compiled);
+        matcher = compiledMatcher;
+        return compiledMatcher;
+    }
+
+    /**
+     * Picks up rule changes made by other backend instances
+     */
+    @Scheduled(fixedDelayString = "${capofinance.categorization.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        if (matcher != null && !readChangeMarker().equals(changeMarker)) {
+            reload();
+        }
+    }
+
+    private List<Object> readChangeMarker() {
+        List<Object[]> rows = categorizationRuleRepository.getChangeMarker();
+        return rows.isEmpty() ? List.of() : Arrays.asList(rows.get(0));
+    }
+
+    private void validate(CategorizationRuleEntity rule) {
+        if (rule.getPattern() == null || rule.getPattern().isBlank()) {
+            throw new IllegalArgumentException("pattern is required");
+        }
+        if (rule.getMatchType() == null) {
+            throw new IllegalArgumentException("matchType is required");
+        }
+        if (rule.getSubcategoryId() == null || !subcategoryRepository.existsById(rule.getSubcategoryId())) {
+            throw new IllegalArgumentException("subcategoryId must reference an existing subcategory");
+        }
+        if (rule.getPersonId() != null && !personRepository.existsById(rule.getPersonId())) {
+            throw new IllegalArgumentException("personId must reference an existing person");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategoryEntity;
+import com.capofinance.domain.SubcategoryEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of categories and their subcategories, with a strong ETag
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryTree {
+    private final List<Node> categories;
+    private final Map<Long, String> categoryNames;
+    private final String etag;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Node {
+        private final CategoryEntity category;
+        private final List<SubcategoryEntity> subcategories;
+    }
+}
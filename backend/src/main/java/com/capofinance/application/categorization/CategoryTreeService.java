@@ -0,0 +1,119 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategoryEntity;
+import com.capofinance.domain.SubcategoryEntity;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the category tree
+ * Requests are served from the snapshot without touching the database; the snapshot
+ * is rebuilt only when categories or subcategories change, detected by a periodic
+ * check of a count/max(updated_at) marker. The application has no category write
+ * path, so changes made in the database show up within one refresh interval (30 s).
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+
+    private volatile CategoryTree tree;
+    private volatile List<Object> changeMarker;
+
+    public CategoryTree getTree() {
+        CategoryTree current = tree;
+        return current != null ? current : rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${capofinance.categorization.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        if (tree != null && !readChangeMarker().equals(changeMarker)) {
+            rebuild();
+        }
+    }
+
+    private synchronized CategoryTree rebuild() {
+        changeMarker = readChangeMarker();
+
+        List<CategoryEntity> categories = new ArrayList<>(categoryRepository.findAll());
+        categories.sort(Comparator.comparing(CategoryEntity::getType)
+                .thenComparing(category -> category.getSortOrder() != null ? category.getSortOrder() : 0)
+                .thenComparing(CategoryEntity::getId));
+
+        Map<Long, List<SubcategoryEntity>> subcategoriesByCategory = subcategoryRepository.findAll().stream()
+                .sorted(Comparator.comparing((SubcategoryEntity subcategory) -> subcategory.getSortOrder() != null ? subcategory.getSortOrder() : 0)
+                        .thenComparing(SubcategoryEntity::getId))
+                .collect(Collectors.groupingBy(SubcategoryEntity::getCategoryId));
+
+        List<CategoryTree.Node> nodes = new ArrayList<>(categories.size());
+        Map<Long, String> categoryNames = new HashMap<>();
+        MessageDigest digest = sha256();
+
+        for (CategoryEntity category : categories) {
+            List<SubcategoryEntity> subcategories = subcategoriesByCategory.getOrDefault(category.getId(), List.of());
+            nodes.add(new CategoryTree.Node(category, List.copyOf(subcategories)));
+            categoryNames.put(category.getId(), category.getName());
+
+            digest(digest, category.getId(), category.getName(), category.getType(), category.getDescription(),
+                    category.getColor(), category.getIcon(), category.getSortOrder(), category.getIsActive());
+            for (SubcategoryEntity subcategory : subcategories) {
+                digest(digest, subcategory.getId(), subcategory.getName(), subcategory.getDescription(),
+                        subcategory.getSortOrder(), subcategory.getIsActive());
+            }
+        }
+
+        CategoryTree built = new CategoryTree(List.copyOf(nodes), Map.copyOf(categoryNames), "\"" + toHex(digest.digest()) + "\"");
+        tree = built;
+        return built;
+    }
+
+    private List<Object> readChangeMarker() {
+        List<Object> marker = new ArrayList<>();
+        marker.addAll(firstRow(categoryRepository.getChangeMarker()));
+        marker.addAll(firstRow(subcategoryRepository.getChangeMarker()));
+        return marker;
+    }
+
+    private List<Object> firstRow(List<Object[]> rows) {
+        return rows.isEmpty() ? List.of() : Arrays.asList(rows.get(0));
+    }
+
+    private void digest(MessageDigest digest, Object... values) {
+        for (Object value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
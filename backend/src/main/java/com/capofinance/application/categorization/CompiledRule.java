@@ -0,0 +1,36 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategorizationRuleEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable, resolved form of a categorization rule used by the matcher
+ */
+@Getter
+@AllArgsConstructor
+public class CompiledRule {
+    private final Long id;
+    private final String pattern; // Lower case
+    private final CategorizationRuleEntity.MatchType matchType;
+    private final int priority;
+    private final Long categoryId;
+    private final Long subcategoryId;
+    private final String personName; // Person override, null when not set
+
+    /**
+     * Higher priority wins; ties go to the longest (most specific) pattern, then to the oldest rule
+     */
+    boolean beats(CompiledRule other) {
+        if (other == null) {
+            return true;
+        }
+        if (priority != other.priority) {
+            return priority > other.priority;
+        }
+        if (pattern.length() != other.pattern.length()) {
+            return pattern.length() > other.pattern.length();
+        }
+        return id < other.id;
+    }
+}
@@ -0,0 +1,72 @@
+package com.capofinance.application.categorization;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a raw transaction description to a stable merchant key
+ * Removes accents, dates, ids (tokens with 4+ digits), punctuation and trailing
+ * city/country suffixes, so "UBER *TRIP 12/10 PORTO ALEGRE BR" and
+ * "Uber *Trip 03/11 Porto Alegre" both become "uber trip".
+ */
+public final class MerchantKeyNormalizer {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern DATES = Pattern.compile("\\b\\d{1,2}[/.-]\\d{1,2}([/.-]\\d{2,4})?\\b");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern MANY_DIGITS = Pattern.compile(".*\\d.*\\d.*\\d.*\\d.*");
+
+    private static final List<List<String>> LOCATION_SUFFIXES = List.of(
+            List.of("br"), List.of("bra"), List.of("brasil"), List.of("brazil"),
+            List.of("porto", "alegre"), List.of("poa"), List.of("canoas"), List.of("gravatai"),
+            List.of("sao", "paulo"), List.of("rio", "de", "janeiro"), List.of("curitiba"),
+            List.of("florianopolis"), List.of("belo", "horizonte"), List.of("brasilia"),
+            List.of("rs"), List.of("sp"), List.of("rj"), List.of("sc"), List.of("pr"), List.of("mg"));
+
+    private MerchantKeyNormalizer() {
+    }
+
+    public static String normalize(String description) {
+        if (description == null) {
+            return "";
+        }
+
+        String text = Normalizer.normalize(description, Normalizer.Form.NFD);
+        text = DIACRITICS.matcher(text).replaceAll("").toLowerCase(Locale.ROOT);
+        text = DATES.matcher(text).replaceAll(" ");
+        text = NON_ALPHANUMERIC.matcher(text).replaceAll(" ").trim();
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.split(" ")) {
+            if (!token.isEmpty() && !MANY_DIGITS.matcher(token).matches()) {
+                tokens.add(token);
+            }
+        }
+
+        stripLocationSuffixes(tokens);
+
+        String key = String.join(" ", tokens);
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static void stripLocationSuffixes(List<String> tokens) {
+        boolean stripped = true;
+        while (stripped) {
+            stripped = false;
+            for (List<String> suffix : LOCATION_SUFFIXES) {
+                int size = suffix.size();
+                // Always keep at least one token of the merchant name
+                if (tokens.size() > size && tokens.subList(tokens.size() - size, tokens.size()).equals(suffix)) {
+                    tokens.subList(tokens.size() - size, tokens.size()).clear();
+                    stripped = true;
+                    break;
+                }
+            }
+        }
+    }
+}
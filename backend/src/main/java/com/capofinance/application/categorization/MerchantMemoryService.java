@@ -0,0 +1,98 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.MerchantCategoryMemoryEntity;
+import com.capofinance.infrastructure.MerchantCategoryMemoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merchant memory learned from manual corrections
+ * Keeps an in-memory merchant key -> category index, written through to the
+ * merchant_category_memory table on every correction and consulted in O(1) by
+ * auto-categorization before the keyword rules.
+ */
+@Service
+public class MerchantMemoryService {
+
+    private final MerchantCategoryMemoryRepository merchantCategoryMemoryRepository;
+    private final int minConfidence;
+
+    private final Map<String, MerchantCategoryMemoryEntity> index = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Writes from this transaction id on may have committed after the last read
+    private volatile long syncedBelowTxid;
+
+    public MerchantMemoryService(
+            MerchantCategoryMemoryRepository merchantCategoryMemoryRepository,
+            @Value("${capofinance.categorization.merchant-memory.min-confidence:1}") int minConfidence) {
+        this.merchantCategoryMemoryRepository = merchantCategoryMemoryRepository;
+        this.minConfidence = minConfidence;
+    }
+
+    /**
+     * Category learned for the merchant of this description, if confident enough
+     */
+    public Optional<MerchantCategoryMemoryEntity> lookup(String description) {
+        ensureLoaded();
+        MerchantCategoryMemoryEntity entry = index.get(MerchantKeyNormalizer.normalize(description));
+        if (entry == null || entry.getConfidence() < minConfidence) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Records a manual correction for the merchant of this description
+     */
+    public void learn(String description, Long categoryId, Long subcategoryId) {
+        String merchantKey = MerchantKeyNormalizer.normalize(description);
+        if (merchantKey.isEmpty() || categoryId == null) {
+            return;
+        }
+
+        merchantCategoryMemoryRepository.upsert(merchantKey, categoryId, subcategoryId);
+        merchantCategoryMemoryRepository.findById(merchantKey)
+                .ifPresent(entry -> index.put(merchantKey, entry));
+    }
+
+    /**
+     * Picks up corrections learned by other backend instances
+     * The snapshot xmin is read before the rows: transactions below it had finished by then,
+     * anything at or above it is read again on the next run.
+     */
+    @Scheduled(fixedDelayString = "${capofinance.categorization.refresh-interval-ms:30000}")
+    public synchronized void syncFromDatabase() {
+        if (!loaded) {
+            return;
+        }
+        long xmin = merchantCategoryMemoryRepository.getSnapshotXmin();
+        apply(merchantCategoryMemoryRepository.findByChangeTxidGreaterThanEqual(syncedBelowTxid));
+        syncedBelowTxid = xmin;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                long xmin = merchantCategoryMemoryRepository.getSnapshotXmin();
+                apply(merchantCategoryMemoryRepository.findAll());
+                syncedBelowTxid = xmin;
+                loaded = true;
+            }
+        }
+    }
+
+    private void apply(List<MerchantCategoryMemoryEntity> entries) {
+        for (MerchantCategoryMemoryEntity entry : entries) {
+            index.put(entry.getMerchantKey(), entry);
+        }
+    }
+}
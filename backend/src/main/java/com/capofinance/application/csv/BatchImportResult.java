@@ -0,0 +1,27 @@
+package com.capofinance.application.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Aggregate result of a batch import (several files or an archive)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchImportResult {
+    private int totalFiles;
+    private int importedFiles;
+    private int skippedFiles;
+    private int failedFiles;
+    private int totalRows;
+    private int importedRows;
+    private int skippedRows;
+    private int errorRows;
+    private List<CsvImportResult> files;
+}
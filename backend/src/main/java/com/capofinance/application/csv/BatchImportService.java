@@ -0,0 +1,195 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.domain.ImportEntity;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Batch import service
+ * Accepts several CSV files and/or zip/gzip archives, routes each file to the
+ * right parser by sniffing its header and imports them concurrently.
+ * Archives are decompressed while reading, one entry at a time, without temp files.
+ */
+@Service
+public class BatchImportService {
+
+    private final CsvImportService csvImportService;
+    private final ImportFormatDetector importFormatDetector;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public BatchImportService(
+            CsvImportService csvImportService,
+            ImportFormatDetector importFormatDetector,
+            @Value("${capofinance.import.batch.max-concurrency:4}") int maxConcurrency) {
+        this.csvImportService = csvImportService;
+        this.importFormatDetector = importFormatDetector;
+        this.executor = Executors.newFixedThreadPool(maxConcurrency);
+        // Bounds the number of decompressed files held in memory waiting for a worker
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Import several uploaded files; each one may be a plain CSV, a zip or a gzip
+     */
+    public BatchImportResult importFiles(List<MultipartFile> files, Long accountId, Long creditCardId) {
+        List<CompletableFuture<CsvImportResult>> futures = new ArrayList<>();
+
+        for (MultipartFile file : files) {
+            try (InputStream inputStream = file.getInputStream()) {
+                expand(file.getOriginalFilename(), inputStream, accountId, creditCardId, futures);
+            } catch (IOException e) {
+                futures.add(CompletableFuture.completedFuture(
+                        failed(file.getOriginalFilename(), "Failed to read file: " + e.getMessage())));
+            }
+        }
+
+        return aggregate(futures);
+    }
+
+    /**
+     * Import a single raw stream (zip, gzip or plain CSV), e.g. a request body
+     */
+    public BatchImportResult importStream(String fileName, InputStream inputStream, Long accountId, Long creditCardId) {
+        List<CompletableFuture<CsvImportResult>> futures = new ArrayList<>();
+
+        try {
+            expand(fileName, inputStream, accountId, creditCardId, futures);
+        } catch (IOException e) {
+            futures.add(CompletableFuture.completedFuture(
+                    failed(fileName, "Failed to read archive: " + e.getMessage())));
+        }
+
+        return aggregate(futures);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void expand(
+            String fileName,
+            InputStream rawStream,
+            Long accountId,
+            Long creditCardId,
+            List<CompletableFuture<CsvImportResult>> futures) throws IOException {
+
+        InputStream inputStream = new BufferedInputStream(rawStream);
+        inputStream.mark(2);
+        int first = inputStream.read();
+        int second = inputStream.read();
+        inputStream.reset();
+
+        if (first == 'P' && second == 'K') {
+            ZipInputStream zip = new ZipInputStream(inputStream);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory() && !isArchiveMetadata(entry.getName())) {
+                    futures.add(submit(entry.getName(), zip.readAllBytes(), accountId, creditCardId));
+                }
+                zip.closeEntry();
+            }
+        } else if (first == 0x1f && second == 0x8b) {
+            GZIPInputStream gzip = new GZIPInputStream(inputStream);
+            futures.add(submit(stripSuffix(fileName, ".gz"), gzip.readAllBytes(), accountId, creditCardId));
+        } else {
+            futures.add(submit(fileName, inputStream.readAllBytes(), accountId, creditCardId));
+        }
+    }
+
+    private CompletableFuture<CsvImportResult> submit(String fileName, byte[] content, Long accountId, Long creditCardId) {
+        permits.acquireUninterruptibly();
+        return CompletableFuture
+                .supplyAsync(() -> importSingle(fileName, content, accountId, creditCardId), executor)
+                .whenComplete((result, error) -> permits.release());
+    }
+
+    private CsvImportResult importSingle(String fileName, byte[] content, Long accountId, Long creditCardId) {
+        Optional<ImportEntity.ImportType> importType = importFormatDetector.detect(content);
+        if (importType.isEmpty()) {
+            return failed(fileName, "Unrecognized CSV header");
+        }
+
+        try {
+            if (importType.get() == ImportEntity.ImportType.EXTRATO) {
+                if (accountId == null) {
+                    return failed(fileName, "accountId is required for extrato files");
+                }
+                return csvImportService.importExtrato(fileName, content, accountId);
+            }
+
+            if (creditCardId == null) {
+                return failed(fileName, "creditCardId is required for fatura files");
+            }
+            return csvImportService.importFatura(fileName, content, creditCardId);
+        } catch (Exception e) {
+            return failed(fileName, "Failed to import file: " + e.getMessage());
+        }
+    }
+
+    private BatchImportResult aggregate(List<CompletableFuture<CsvImportResult>> futures) {
+        List<CsvImportResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        int importedFiles = 0;
+        int skippedFiles = 0;
+        int failedFiles = 0;
+        for (CsvImportResult result : results) {
+            switch (result.getStatus()) {
+                case "SUCCESS", "PARTIAL" -> importedFiles++;
+                case "SKIPPED" -> skippedFiles++;
+                default -> failedFiles++;
+            }
+        }
+
+        return BatchImportResult.builder()
+                .totalFiles(results.size())
+                .importedFiles(importedFiles)
+                .skippedFiles(skippedFiles)
+                .failedFiles(failedFiles)
+                .totalRows(results.stream().mapToInt(CsvImportResult::getTotalRows).sum())
+                .importedRows(results.stream().mapToInt(CsvImportResult::getImportedRows).sum())
+                .skippedRows(results.stream().mapToInt(CsvImportResult::getSkippedRows).sum())
+                .errorRows(results.stream().mapToInt(CsvImportResult::getErrorRows).sum())
+                .files(results)
+                .build();
+    }
+
+    private CsvImportResult failed(String fileName, String message) {
+        return CsvImportResult.builder()
+                .fileName(fileName)
+                .status("ERROR")
+                .message(message)
+                .build();
+    }
+
+    private boolean isArchiveMetadata(String entryName) {
+        return entryName.startsWith("__MACOSX/") || entryName.substring(entryName.lastIndexOf('/') + 1).startsWith(".");
+    }
+
+    private String stripSuffix(String fileName, String suffix) {
+        if (fileName != null && fileName.toLowerCase().endsWith(suffix)) {
+            return fileName.substring(0, fileName.length() - suffix.length());
+        }
+        return fileName;
+    }
+}
@@ -1,5 +1,11 @@
 package com.capofinance.application.csv;
 
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.categorization.CategorizationMatcher;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.application.merchant.MerchantService;
+import com.capofinance.application.outbox.OutboxService;
 import com.capofinance.domain.*;
 import com.capofinance.infrastructure.*;
 import lombok.RequiredArgsConstructor;
@@ -7,11 +13,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Main CSV import service
@@ -21,58 +29,80 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CsvImportService {
 
+    private static final int PROGRESS_INTERVAL = 500;
+
     private final ExtratoParser extratoParser;
     private final FaturaParser faturaParser;
     private final AutoCategorizationService autoCategorizationService;
     
     private final ImportRepository importRepository;
+    private final ImportErrorRepository importErrorRepository;
     private final TransactionRepository transactionRepository;
-    private final PersonRepository personRepository;
+    private final PersonResolver personResolver;
+    private final MerchantService merchantService;
+    private final TransactionPartitionService transactionPartitionService;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
+    private final OutboxService outboxService;
 
     /**
      * Import bank statement CSV (extrato)
      */
     @Transactional
     public CsvImportResult importExtrato(MultipartFile file, Long accountId) throws IOException {
+        return importExtrato(file.getOriginalFilename(), file.getBytes(), accountId);
+    }
+
+    /**
+     * Import bank statement CSV (extrato) from raw content
+     * Used by batch imports where files come from archives instead of multipart parts
+     */
+    @Transactional
+    public CsvImportResult importExtrato(String fileName, byte[] content, Long accountId) throws IOException {
         // Step 1: Calculate file hash
-        String fileHash = calculateFileHash(file.getInputStream());
-        file.getInputStream().reset(); // Reset stream for reading
+        String fileHash = calculateFileHash(new ByteArrayInputStream(content));
 
-        // Step 2: Check if already imported
-        if (importRepository.existsByFileHash(fileHash)) {
-            return CsvImportResult.builder()
-                    .fileName(file.getOriginalFilename())
-                    .fileHash(fileHash)
-                    .status("SKIPPED")
-                    .message("File already imported previously")
-                    .build();
+        // Step 2: Reserve the file hash and check if already imported
+        Optional<CsvImportResult> alreadyHandled = reserveFileHash(fileName, fileHash);
+        if (alreadyHandled.isPresent()) {
+            return alreadyHandled.get();
         }
 
         // Step 3: Parse CSV
-        List<ParsedTransaction> parsedTransactions = extratoParser.parse(file.getInputStream());
+        ImportErrorCollector errors = new ImportErrorCollector();
+        List<ParsedTransaction> parsedTransactions = extratoParser.parse(new ByteArrayInputStream(content), errors);
+        int totalRows = parsedTransactions.size() + errors.size();
+        transactionPartitionService.ensurePartitions(parsedTransactions.stream()
+                .map(parsed -> parsed.getTransactionDate().toLocalDate())
+                .toList());
 
         // Step 4: Create import record
         ImportEntity importEntity = ImportEntity.builder()
                 .importType(ImportEntity.ImportType.EXTRATO)
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .fileHash(fileHash)
                 .accountId(accountId)
-                .totalRows(parsedTransactions.size())
+                .totalRows(totalRows)
                 .build();
         importEntity = importRepository.save(importEntity);
+        publishStarted(importEntity);
 
         // Step 5: Process and save transactions
+        CategorizationMatcher rules = autoCategorizationService.currentRules();
         int imported = 0;
         int skipped = 0;
-        int errors = 0;
+        int processed = 0;
 
         for (ParsedTransaction parsed : parsedTransactions) {
+            if (++processed % PROGRESS_INTERVAL == 0) {
+                publishProgress(importEntity, processed);
+            }
             try {
                 // Auto-categorize
-                autoCategorizationService.categorize(parsed);
+                autoCategorizationService.categorize(parsed, rules);
 
                 // Find person ID
-                Long personId = findPersonId(parsed.getDetectedPersonName());
+                Long personId = personResolver.findPersonId(parsed.getDetectedPersonName());
 
                 // Create transaction entity
                 TransactionEntity transaction = TransactionEntity.builder()
@@ -80,6 +110,7 @@ public class CsvImportService {
                         .importId(importEntity.getId())
                         .transactionDate(parsed.getTransactionDate())
                         .description(parsed.getDescription())
+                        .merchantId(merchantService.resolve(parsed.getDescription()))
                         .amount(parsed.getAmount())
                         .balanceAfter(parsed.getBalanceAfter())
                         .accountId(accountId)
@@ -102,26 +133,33 @@ public class CsvImportService {
                     skipped++;
                 }
             } catch (Exception e) {
-                errors++;
-                System.err.println("Error processing transaction: " + e.getMessage());
+                errors.reject(parsed.getCharOffset(), ImportErrorEntity.ReasonCode.PERSIST_FAILED);
             }
         }
 
-        // Step 6: Update import record with stats
+        // Step 6: Update import record with stats and rejected rows
         importEntity.setImportedRows(imported);
         importEntity.setSkippedRows(skipped);
-        importEntity.setErrorRows(errors);
-        importEntity.setStatus(errors > 0 ? ImportEntity.ImportStatus.PARTIAL : ImportEntity.ImportStatus.SUCCESS);
+        importEntity.setErrorRows(errors.size());
+        importEntity.setStatus(errors.isEmpty() ? ImportEntity.ImportStatus.SUCCESS : ImportEntity.ImportStatus.PARTIAL);
         importRepository.save(importEntity);
+        if (!errors.isEmpty()) {
+            importErrorRepository.saveAll(errors.toEntities(importEntity.getId(), content));
+        }
+        if (imported > 0) {
+            ledgerVersionService.bump();
+            outboxService.enqueue(OutboxEventEntity.EventType.IMPORT_COMPLETED, importEntity.getId());
+        }
+        publishFinished(importEntity);
 
         return CsvImportResult.builder()
                 .importId(importEntity.getId())
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .fileHash(fileHash)
-                .totalRows(parsedTransactions.size())
+                .totalRows(totalRows)
                 .importedRows(imported)
                 .skippedRows(skipped)
-                .errorRows(errors)
+                .errorRows(errors.size())
                 .status(importEntity.getStatus().name())
                 .message("Import completed successfully")
                 .build();
@@ -132,45 +170,59 @@ public class CsvImportService {
      */
     @Transactional
     public CsvImportResult importFatura(MultipartFile file, Long creditCardId) throws IOException {
+        return importFatura(file.getOriginalFilename(), file.getBytes(), creditCardId);
+    }
+
+    /**
+     * Import credit card bill CSV (fatura) from raw content
+     * Used by batch imports where files come from archives instead of multipart parts
+     */
+    @Transactional
+    public CsvImportResult importFatura(String fileName, byte[] content, Long creditCardId) throws IOException {
         // Step 1: Calculate file hash
-        String fileHash = calculateFileHash(file.getInputStream());
-        file.getInputStream().reset(); // Reset stream for reading
+        String fileHash = calculateFileHash(new ByteArrayInputStream(content));
 
-        // Step 2: Check if already imported
-        if (importRepository.existsByFileHash(fileHash)) {
-            return CsvImportResult.builder()
-                    .fileName(file.getOriginalFilename())
-                    .fileHash(fileHash)
-                    .status("SKIPPED")
-                    .message("File already imported previously")
-                    .build();
+        // Step 2: Reserve the file hash and check if already imported
+        Optional<CsvImportResult> alreadyHandled = reserveFileHash(fileName, fileHash);
+        if (alreadyHandled.isPresent()) {
+            return alreadyHandled.get();
         }
 
         // Step 3: Parse CSV
-        List<ParsedTransaction> parsedTransactions = faturaParser.parse(file.getInputStream());
+        ImportErrorCollector errors = new ImportErrorCollector();
+        List<ParsedTransaction> parsedTransactions = faturaParser.parse(new ByteArrayInputStream(content), errors);
+        int totalRows = parsedTransactions.size() + errors.size();
+        transactionPartitionService.ensurePartitions(parsedTransactions.stream()
+                .map(parsed -> parsed.getTransactionDate().toLocalDate())
+                .toList());
 
         // Step 4: Create import record
         ImportEntity importEntity = ImportEntity.builder()
                 .importType(ImportEntity.ImportType.FATURA)
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .fileHash(fileHash)
                 .creditCardId(creditCardId)
-                .totalRows(parsedTransactions.size())
+                .totalRows(totalRows)
                 .build();
         importEntity = importRepository.save(importEntity);
+        publishStarted(importEntity);
 
         // Step 5: Process and save transactions
+        CategorizationMatcher rules = autoCategorizationService.currentRules();
         int imported = 0;
         int skipped = 0;
-        int errors = 0;
+        int processed = 0;
 
         for (ParsedTransaction parsed : parsedTransactions) {
+            if (++processed % PROGRESS_INTERVAL == 0) {
+                publishProgress(importEntity, processed);
+            }
             try {
                 // Auto-categorize
-                autoCategorizationService.categorize(parsed);
+                autoCategorizationService.categorize(parsed, rules);
 
                 // Find person ID
-                Long personId = findPersonId(parsed.getDetectedPersonName());
+                Long personId = personResolver.findPersonId(parsed.getDetectedPersonName());
 
                 // Create transaction entity
                 TransactionEntity transaction = TransactionEntity.builder()
@@ -178,6 +230,7 @@ public class CsvImportService {
                         .importId(importEntity.getId())
                         .transactionDate(parsed.getTransactionDate())
                         .description(parsed.getDescription())
+                        .merchantId(merchantService.resolve(parsed.getDescription()))
                         .amount(parsed.getAmount())
                         .installmentInfo(parsed.getInstallmentInfo())
                         .cardHolder(parsed.getCardHolder())
@@ -185,7 +238,11 @@ public class CsvImportService {
                         .personId(personId)
                         .categoryId(parsed.getDetectedCategoryId())
                         .subcategoryId(parsed.getDetectedSubcategoryId())
-                        .transactionType(TransactionEntity.TransactionType.EXPENSE)
+                        .transactionType(
+                            "INCOME".equals(parsed.getTransactionType())
+                                ? TransactionEntity.TransactionType.INCOME
+                                : TransactionEntity.TransactionType.EXPENSE
+                        )
                         .build();
 
                 // Save with duplicate handling
@@ -197,31 +254,99 @@ public class CsvImportService {
                     skipped++;
                 }
             } catch (Exception e) {
-                errors++;
-                System.err.println("Error processing transaction: " + e.getMessage());
+                errors.reject(parsed.getCharOffset(), ImportErrorEntity.ReasonCode.PERSIST_FAILED);
             }
         }
 
-        // Step 6: Update import record with stats
+        // Step 6: Update import record with stats and rejected rows
         importEntity.setImportedRows(imported);
         importEntity.setSkippedRows(skipped);
-        importEntity.setErrorRows(errors);
-        importEntity.setStatus(errors > 0 ? ImportEntity.ImportStatus.PARTIAL : ImportEntity.ImportStatus.SUCCESS);
+        importEntity.setErrorRows(errors.size());
+        importEntity.setStatus(errors.isEmpty() ? ImportEntity.ImportStatus.SUCCESS : ImportEntity.ImportStatus.PARTIAL);
         importRepository.save(importEntity);
+        if (!errors.isEmpty()) {
+            importErrorRepository.saveAll(errors.toEntities(importEntity.getId(), content));
+        }
+        if (imported > 0) {
+            ledgerVersionService.bump();
+            outboxService.enqueue(OutboxEventEntity.EventType.IMPORT_COMPLETED, importEntity.getId());
+        }
+        publishFinished(importEntity);
 
         return CsvImportResult.builder()
                 .importId(importEntity.getId())
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .fileHash(fileHash)
-                .totalRows(parsedTransactions.size())
+                .totalRows(totalRows)
                 .importedRows(imported)
                 .skippedRows(skipped)
-                .errorRows(errors)
+                .errorRows(errors.size())
                 .status(importEntity.getStatus().name())
                 .message("Import completed successfully")
                 .build();
     }
 
+    /**
+     * Atomically reserves the file hash for the current transaction.
+     * Another request (or replica) importing the same file either fails to take the
+     * advisory lock and short-circuits, or takes it after the winner committed and
+     * then sees the existing import record.
+     */
+    private Optional<CsvImportResult> reserveFileHash(String fileName, String fileHash) {
+        long lockKey = Long.parseUnsignedLong(fileHash.substring(0, 16), 16);
+
+        if (!importRepository.tryLockFileHash(lockKey)) {
+            return Optional.of(CsvImportResult.builder()
+                    .fileName(fileName)
+                    .fileHash(fileHash)
+                    .status("SKIPPED")
+                    .message("File is already being imported by another request")
+                    .build());
+        }
+
+        if (importRepository.existsByFileHashAndStatusNot(fileHash, ImportEntity.ImportStatus.REVERTED)) {
+            return Optional.of(CsvImportResult.builder()
+                    .fileName(fileName)
+                    .fileHash(fileHash)
+                    .status("SKIPPED")
+                    .message("File already imported previously")
+                    .build());
+        }
+
+        return Optional.empty();
+    }
+
+    private void publishStarted(ImportEntity importEntity) {
+        ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                .type(LedgerChangeEvent.Type.IMPORT_STARTED)
+                .importId(importEntity.getId())
+                .fileName(importEntity.getFileName())
+                .totalRows(importEntity.getTotalRows())
+                .build());
+    }
+
+    private void publishProgress(ImportEntity importEntity, int processed) {
+        ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                .type(LedgerChangeEvent.Type.IMPORT_PROGRESS)
+                .importId(importEntity.getId())
+                .processedRows(processed)
+                .totalRows(importEntity.getTotalRows())
+                .build());
+    }
+
+    private void publishFinished(ImportEntity importEntity) {
+        ledgerEventPublisher.publishAfterCommit(LedgerChangeEvent.builder()
+                .type(LedgerChangeEvent.Type.IMPORT_FINISHED)
+                .importId(importEntity.getId())
+                .fileName(importEntity.getFileName())
+                .totalRows(importEntity.getTotalRows())
+                .importedRows(importEntity.getImportedRows())
+                .skippedRows(importEntity.getSkippedRows())
+                .errorRows(importEntity.getErrorRows())
+                .status(importEntity.getStatus().name())
+                .build());
+    }
+
     private String calculateFileHash(InputStream inputStream) throws IOException {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -246,15 +371,4 @@ public class CsvImportService {
             throw new RuntimeException("SHA-256 algorithm not available", e);
         }
     }
-
-    private Long findPersonId(String personName) {
-        return personRepository.findByNameIgnoreCase(personName)
-                .map(PersonEntity::getId)
-                .orElseGet(() -> {
-                    // Default to Leonardo if person not found
-                    return personRepository.findByNameIgnoreCase("Leonardo")
-                            .map(PersonEntity::getId)
-                            .orElse(1L); // Fallback to ID 1
-                });
-    }
 }
@@ -1,5 +1,6 @@
 package com.capofinance.application.csv;
 
+import com.capofinance.domain.ImportErrorEntity;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -18,6 +19,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Parser for credit card bill CSV (fatura.csv)
@@ -31,9 +33,25 @@ public class FaturaParser {
         DateTimeFormatter.ofPattern("dd/MM/yy")
     };
 
+    private static final int HEADER_COLUMNS = 5;
+
     public List<ParsedTransaction> parse(InputStream inputStream) throws IOException {
+        return parse(inputStream, new ImportErrorCollector());
+    }
+
+    /**
+     * Parse the CSV, reporting rejected rows to the given collector
+     */
+    public List<ParsedTransaction> parse(InputStream inputStream, ImportErrorCollector errors) throws IOException {
         List<ParsedTransaction> transactions = new ArrayList<>();
+        parse(inputStream, errors, transactions::add);
+        return transactions;
+    }
 
+    /**
+     * Parse the CSV row by row, handing each transaction to the consumer as soon as it is read
+     */
+    public void parse(InputStream inputStream, ImportErrorCollector errors, Consumer<ParsedTransaction> consumer) throws IOException {
         CSVFormat format = CSVFormat.Builder.create()
                 .setDelimiter(';')
                 .setHeader("Data", "Estabelecimento", "Portador", "Valor", "Parcela")
@@ -45,20 +63,28 @@ public class FaturaParser {
              CSVParser csvParser = new CSVParser(reader, format)) {
 
             for (CSVRecord record : csvParser) {
+                ParsedTransaction transaction;
                 try {
-                    ParsedTransaction transaction = parseRecord(record);
-                    transactions.add(transaction);
+                    transaction = parseRecord(record);
                 } catch (Exception e) {
-                    // Log error but continue processing
-                    System.err.println("Error parsing record: " + record + " - " + e.getMessage());
+                    // Record the rejected row but continue processing
+                    errors.reject(record.getCharacterPosition(), e);
+                    continue;
                 }
+
+                transaction.setLineNumber(record.getRecordNumber());
+                transaction.setCharOffset(record.getCharacterPosition());
+                consumer.accept(transaction);
             }
         }
-
-        return transactions;
     }
 
     private ParsedTransaction parseRecord(CSVRecord record) {
+        if (record.size() < HEADER_COLUMNS) {
+            throw new RowRejectedException(ImportErrorEntity.ReasonCode.MISSING_COLUMN,
+                    "Expected " + HEADER_COLUMNS + " columns but found " + record.size());
+        }
+
         String dataStr = record.get("Data");
         String estabelecimento = record.get("Estabelecimento");
         String portador = record.get("Portador");
@@ -74,11 +100,11 @@ public class FaturaParser {
         return ParsedTransaction.builder()
                 .transactionDate(transactionDate)
                 .description(estabelecimento)
-                .amount(amount.abs()) // Always positive, type is EXPENSE
+                .amount(amount.abs()) // Store as positive, type indicates direction
                 .installmentInfo(parcela.isEmpty() || parcela.equals("-") ? null : parcela)
                 .cardHolder(portador)
                 .detectedPersonName(detectedPerson)
-                .transactionType("EXPENSE") // Credit card bills are always expenses
+                .transactionType(amount.signum() < 0 ? "INCOME" : "EXPENSE") // Negative values are credits (bill payments, refunds)
                 .build();
     }
 
@@ -92,7 +118,7 @@ public class FaturaParser {
                 // Try next formatter
             }
         }
-        throw new IllegalArgumentException("Unable to parse date: " + dateStr);
+        throw new RowRejectedException(ImportErrorEntity.ReasonCode.INVALID_DATE, "Unable to parse date: " + dateStr);
     }
 
     private BigDecimal parseMoney(String moneyStr) {
@@ -105,7 +131,11 @@ public class FaturaParser {
                 .trim();
 
         // Handle negative values (like payment credits)
-        return new BigDecimal(cleaned);
+        try {
+            return new BigDecimal(cleaned);
+        } catch (NumberFormatException e) {
+            throw new RowRejectedException(ImportErrorEntity.ReasonCode.INVALID_AMOUNT, "Unable to parse amount: " + moneyStr, e);
+        }
     }
 
     private String detectPerson(String portador) {
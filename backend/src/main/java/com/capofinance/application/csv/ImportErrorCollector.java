@@ -0,0 +1,102 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.domain.ImportErrorEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects rejected rows of a single import
+ * Only the row position and a reason code are kept, so a clean import does no extra
+ * work and a broken one costs a few longs per row. Offsets are recorded as character
+ * positions while parsing and converted to byte offsets and physical line numbers once,
+ * after parsing, if needed; record numbers would be off by the header and by quoted
+ * fields spanning several lines.
+ */
+public class ImportErrorCollector {
+
+    private List<RejectedRow> rows = Collections.emptyList();
+    private final Map<ImportErrorEntity.ReasonCode, Integer> countsByReason = new EnumMap<>(ImportErrorEntity.ReasonCode.class);
+
+    public void reject(long charOffset, ImportErrorEntity.ReasonCode reasonCode) {
+        if (rows.isEmpty()) {
+            rows = new ArrayList<>();
+        }
+        rows.add(new RejectedRow(charOffset, reasonCode));
+        countsByReason.merge(reasonCode, 1, Integer::sum);
+    }
+
+    public void reject(long charOffset, Exception cause) {
+        reject(charOffset, reasonOf(cause));
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public Map<ImportErrorEntity.ReasonCode, Integer> getCountsByReason() {
+        return Collections.unmodifiableMap(countsByReason);
+    }
+
+    /**
+     * Converts the collected rows into entities, resolving character positions into
+     * byte offsets and 1-based line numbers with a single pass over the raw UTF-8 content
+     */
+    public List<ImportErrorEntity> toEntities(Long importId, byte[] content) {
+        List<ImportErrorEntity> entities = new ArrayList<>(rows.size());
+        if (rows.isEmpty()) {
+            return entities;
+        }
+
+        List<RejectedRow> byOffset = new ArrayList<>(rows);
+        byOffset.sort((a, b) -> Long.compare(a.charOffset, b.charOffset));
+
+        int bytePos = 0;
+        long charPos = 0;
+        long lineNumber = 1;
+        for (RejectedRow row : byOffset) {
+            while (charPos < row.charOffset && bytePos < content.length) {
+                int lead = content[bytePos] & 0xff;
+                int width = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+                if (lead == '\n') {
+                    lineNumber++;
+                }
+                bytePos += width;
+                // Supplementary code points take two UTF-16 chars
+                charPos += width == 4 ? 2 : 1;
+            }
+
+            entities.add(ImportErrorEntity.builder()
+                    .importId(importId)
+                    .lineNumber(lineNumber)
+                    .byteOffset((long) Math.min(bytePos, content.length))
+                    .reasonCode(row.reasonCode)
+                    .build());
+        }
+
+        return entities;
+    }
+
+    private ImportErrorEntity.ReasonCode reasonOf(Exception cause) {
+        if (cause instanceof RowRejectedException rejected) {
+            return rejected.getReasonCode();
+        }
+        return ImportErrorEntity.ReasonCode.UNKNOWN;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RejectedRow {
+        private final long charOffset;
+        private final ImportErrorEntity.ReasonCode reasonCode;
+    }
+}
@@ -0,0 +1,51 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.domain.ImportEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Detects whether CSV content is an extrato or a fatura by sniffing its header line
+ * Extrato header: Data;Descricao;Valor;Saldo
+ * Fatura header: Data;Estabelecimento;Portador;Valor;Parcela
+ */
+@Component
+public class ImportFormatDetector {
+
+    private static final int MAX_HEADER_BYTES = 1024;
+
+    public Optional<ImportEntity.ImportType> detect(byte[] content) {
+        String header = readHeaderLine(content).toLowerCase();
+
+        if (header.contains("estabelecimento") || header.contains("portador")) {
+            return Optional.of(ImportEntity.ImportType.FATURA);
+        }
+
+        if (header.contains("saldo")) {
+            return Optional.of(ImportEntity.ImportType.EXTRATO);
+        }
+
+        return Optional.empty();
+    }
+
+    private String readHeaderLine(byte[] content) {
+        int start = 0;
+        // Skip UTF-8 BOM if present
+        if (content.length >= 3
+                && (content[0] & 0xff) == 0xEF
+                && (content[1] & 0xff) == 0xBB
+                && (content[2] & 0xff) == 0xBF) {
+            start = 3;
+        }
+
+        int limit = Math.min(content.length, start + MAX_HEADER_BYTES);
+        int end = start;
+        while (end < limit && content[end] != '\n' && content[end] != '\r') {
+            end++;
+        }
+
+        return new String(content, start, end - start, StandardCharsets.UTF_8);
+    }
+}
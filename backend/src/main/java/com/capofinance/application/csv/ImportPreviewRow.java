@@ -0,0 +1,33 @@
+package com.capofinance.application.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * What an import would do with a single CSV row
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportPreviewRow {
+    private Long lineNumber;
+    private LocalDateTime transactionDate;
+    private String description;
+    private BigDecimal amount;
+    private String transactionType;
+    private Status status;
+    private Long categoryId;
+    private Long subcategoryId;
+    private String personName;
+    private Long personId;
+
+    public enum Status {
+        NEW, DUPLICATE, DUPLICATE_IN_FILE
+    }
+}
@@ -0,0 +1,180 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.application.categorization.CategorizationMatcher;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Import dry-run
+ * Parses and categorizes a CSV exactly like a real import and reports, row by row,
+ * whether each transaction is new or a duplicate - without writing anything.
+ * Rows are checked for duplicates in chunks with one read-only lookup per chunk,
+ * and handed to the consumer while the file is still being read.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportPreviewService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 200;
+
+    private final ExtratoParser extratoParser;
+    private final FaturaParser faturaParser;
+    private final AutoCategorizationService autoCategorizationService;
+    private final PersonResolver personResolver;
+    private final TransactionRepository transactionRepository;
+
+    @Transactional(readOnly = true)
+    public ImportPreviewSummary previewExtrato(InputStream inputStream, Long accountId, Consumer<ImportPreviewRow> consumer) throws IOException {
+        ImportErrorCollector errors = new ImportErrorCollector();
+        PreviewRun run = new PreviewRun(TransactionEntity.SourceType.EXTRATO, accountId, consumer);
+        extratoParser.parse(inputStream, errors, run::add);
+        run.flush();
+        return run.summary(errors);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportPreviewSummary previewFatura(InputStream inputStream, Long creditCardId, Consumer<ImportPreviewRow> consumer) throws IOException {
+        ImportErrorCollector errors = new ImportErrorCollector();
+        PreviewRun run = new PreviewRun(TransactionEntity.SourceType.FATURA, creditCardId, consumer);
+        faturaParser.parse(inputStream, errors, run::add);
+        run.flush();
+        return run.summary(errors);
+    }
+
+    /**
+     * State of a single preview: the pending chunk, fingerprints already seen in the file and counters
+     */
+    private class PreviewRun {
+
+        private final TransactionEntity.SourceType sourceType;
+        private final Long ownerId;
+        private final Consumer<ImportPreviewRow> consumer;
+        private final CategorizationMatcher rules = autoCategorizationService.currentRules();
+
+        private final List<ParsedTransaction> pending = new ArrayList<>(LOOKUP_CHUNK_SIZE);
+        private final Set<String> seenInFile = new HashSet<>();
+        private final Map<String, Long> personIds = new HashMap<>();
+
+        private int newRows;
+        private int duplicateRows;
+        private int uncategorizedRows;
+
+        PreviewRun(TransactionEntity.SourceType sourceType, Long ownerId, Consumer<ImportPreviewRow> consumer) {
+            this.sourceType = sourceType;
+            this.ownerId = ownerId;
+            this.consumer = consumer;
+        }
+
+        void add(ParsedTransaction parsed) {
+            pending.add(parsed);
+            if (pending.size() >= LOOKUP_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            Set<String> existing = findExistingFingerprints();
+
+            for (ParsedTransaction parsed : pending) {
+                autoCategorizationService.categorize(parsed, rules);
+                Long personId = personIds.computeIfAbsent(parsed.getDetectedPersonName(), personResolver::findPersonId);
+
+                String fingerprint = TransactionFingerprint.of(
+                        parsed.getTransactionDate(), parsed.getDescription(), parsed.getAmount());
+
+                ImportPreviewRow.Status status;
+                if (existing.contains(fingerprint)) {
+                    status = ImportPreviewRow.Status.DUPLICATE;
+                } else if (!seenInFile.add(fingerprint)) {
+                    status = ImportPreviewRow.Status.DUPLICATE_IN_FILE;
+                } else {
+                    status = ImportPreviewRow.Status.NEW;
+                }
+
+                if (status == ImportPreviewRow.Status.NEW) {
+                    newRows++;
+                } else {
+                    duplicateRows++;
+                }
+                if (parsed.getDetectedCategoryId() == null) {
+                    uncategorizedRows++;
+                }
+
+                consumer.accept(ImportPreviewRow.builder()
+                        .lineNumber(parsed.getLineNumber())
+                        .transactionDate(parsed.getTransactionDate())
+                        .description(parsed.getDescription())
+                        .amount(parsed.getAmount())
+                        .transactionType(parsed.getTransactionType())
+                        .status(status)
+                        .categoryId(parsed.getDetectedCategoryId())
+                        .subcategoryId(parsed.getDetectedSubcategoryId())
+                        .personName(parsed.getDetectedPersonName())
+                        .personId(personId)
+                        .build());
+            }
+
+            pending.clear();
+        }
+
+        ImportPreviewSummary summary(ImportErrorCollector errors) {
+            Map<String, Integer> errorsByReason = new LinkedHashMap<>();
+            errors.getCountsByReason().forEach((reason, count) -> errorsByReason.put(reason.name(), count));
+
+            return ImportPreviewSummary.builder()
+                    .totalRows(newRows + duplicateRows + errors.size())
+                    .newRows(newRows)
+                    .duplicateRows(duplicateRows)
+                    .uncategorizedRows(uncategorizedRows)
+                    .errorRows(errors.size())
+                    .errorsByReason(errorsByReason)
+                    .build();
+        }
+
+        /**
+         * One lookup per chunk, bounded by the chunk's date range (statements are date ordered)
+         */
+        private Set<String> findExistingFingerprints() {
+            LocalDateTime start = pending.get(0).getTransactionDate();
+            LocalDateTime end = start;
+            for (ParsedTransaction parsed : pending) {
+                if (parsed.getTransactionDate().isBefore(start)) {
+                    start = parsed.getTransactionDate();
+                }
+                if (parsed.getTransactionDate().isAfter(end)) {
+                    end = parsed.getTransactionDate();
+                }
+            }
+
+            List<Object[]> rows = sourceType == TransactionEntity.SourceType.EXTRATO
+                    ? transactionRepository.findExtratoFingerprints(ownerId, start, end)
+                    : transactionRepository.findFaturaFingerprints(ownerId, start, end);
+
+            Set<String> fingerprints = new HashSet<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                fingerprints.add(TransactionFingerprint.of((LocalDateTime) row[0], (String) row[1], (BigDecimal) row[2]));
+            }
+            return fingerprints;
+        }
+    }
+}
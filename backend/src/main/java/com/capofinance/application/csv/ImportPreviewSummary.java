@@ -0,0 +1,24 @@
+package com.capofinance.application.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Totals of an import preview, sent after the last row
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportPreviewSummary {
+    private int totalRows;
+    private int newRows;
+    private int duplicateRows;
+    private int uncategorizedRows;
+    private int errorRows;
+    private Map<String, Integer> errorsByReason;
+}
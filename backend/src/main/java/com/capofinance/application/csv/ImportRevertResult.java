@@ -0,0 +1,21 @@
+package com.capofinance.application.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of rolling back an import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRevertResult {
+    private Long importId;
+    private String fileName;
+    private int deletedRows;
+    private String status;
+    private String message;
+}
@@ -0,0 +1,100 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.balance.AccountBalanceService;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.domain.ImportEntity;
+import com.capofinance.infrastructure.DuplicateCandidateRepository;
+import com.capofinance.infrastructure.ImportRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Rolls back an import by deleting its transactions in chunks
+ * Each chunk is a set-based DELETE committed on its own, so the rollback never
+ * loads rows into the JVM nor holds locks on the whole transactions table.
+ * Re-running a partially applied rollback simply continues where it stopped.
+ */
+@Service
+public class ImportRevertService {
+
+    private final ImportRepository importRepository;
+    private final TransactionRepository transactionRepository;
+    private final DuplicateCandidateRepository duplicateCandidateRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
+    private final AccountBalanceService accountBalanceService;
+    private final int batchSize;
+
+    public ImportRevertService(
+            ImportRepository importRepository,
+            TransactionRepository transactionRepository,
+            DuplicateCandidateRepository duplicateCandidateRepository,
+            LedgerVersionService ledgerVersionService,
+            LedgerEventPublisher ledgerEventPublisher,
+            AccountBalanceService accountBalanceService,
+            @Value("${capofinance.import.revert.batch-size:1000}") int batchSize) {
+        this.importRepository = importRepository;
+        this.transactionRepository = transactionRepository;
+        this.duplicateCandidateRepository = duplicateCandidateRepository;
+        this.ledgerVersionService = ledgerVersionService;
+        this.ledgerEventPublisher = ledgerEventPublisher;
+        this.accountBalanceService = accountBalanceService;
+        this.batchSize = batchSize;
+    }
+
+    public Optional<ImportRevertResult> revert(Long importId) {
+        return importRepository.findById(importId).map(this::revert);
+    }
+
+    private ImportRevertResult revert(ImportEntity importEntity) {
+        String sourceType = importEntity.getImportType().name();
+
+        // The other legs of transfers paired with this import go back to INCOME/EXPENSE
+        if (transactionRepository.unpairTransfersOfImport(sourceType, importEntity.getId()) > 0) {
+            ledgerVersionService.bump();
+        }
+
+        duplicateCandidateRepository.deleteForImport(sourceType, importEntity.getId());
+        transactionRepository.deleteTransferRejectionsForImport(sourceType, importEntity.getId());
+
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionRepository.deleteImportChunk(sourceType, importEntity.getId(), batchSize);
+            deleted += chunk;
+        } while (chunk == batchSize);
+
+        if (deleted > 0) {
+            ledgerVersionService.bump();
+            if (importEntity.getAccountId() != null) {
+                accountBalanceService.refreshCurrentBalance(importEntity.getAccountId());
+            }
+        }
+        ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                .type(LedgerChangeEvent.Type.IMPORT_REVERTED)
+                .importId(importEntity.getId())
+                .fileName(importEntity.getFileName())
+                .updatedRows(deleted)
+                .build());
+
+        importEntity.setStatus(ImportEntity.ImportStatus.REVERTED);
+        if (importEntity.getRevertedAt() == null) {
+            importEntity.setRevertedAt(LocalDateTime.now());
+        }
+        importRepository.save(importEntity);
+
+        return ImportRevertResult.builder()
+                .importId(importEntity.getId())
+                .fileName(importEntity.getFileName())
+                .deletedRows(deleted)
+                .status(importEntity.getStatus().name())
+                .message("Import reverted successfully")
+                .build();
+    }
+}
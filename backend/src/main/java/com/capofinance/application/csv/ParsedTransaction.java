@@ -26,4 +26,6 @@ public class ParsedTransaction {
     private Long detectedCategoryId;
     private Long detectedSubcategoryId;
     private String transactionType; // INCOME, EXPENSE
+    private Long lineNumber; // Position in the source CSV, for error reporting
+    private Long charOffset;
 }
@@ -0,0 +1,27 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.domain.PersonEntity;
+import com.capofinance.infrastructure.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the person detected by the parsers into a person ID
+ */
+@Component
+@RequiredArgsConstructor
+public class PersonResolver {
+
+    private final PersonRepository personRepository;
+
+    public Long findPersonId(String personName) {
+        return personRepository.findByNameIgnoreCase(personName)
+                .map(PersonEntity::getId)
+                .orElseGet(() -> {
+                    // Default to Leonardo if person not found
+                    return personRepository.findByNameIgnoreCase("Leonardo")
+                            .map(PersonEntity::getId)
+                            .orElse(1L); // Fallback to ID 1
+                });
+    }
+}
@@ -0,0 +1,25 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.domain.ImportErrorEntity;
+
+/**
+ * Thrown by the parsers when a CSV row cannot be turned into a transaction
+ */
+public class RowRejectedException extends IllegalArgumentException {
+
+    private final ImportErrorEntity.ReasonCode reasonCode;
+
+    public RowRejectedException(ImportErrorEntity.ReasonCode reasonCode, String message) {
+        super(message);
+        this.reasonCode = reasonCode;
+    }
+
+    public RowRejectedException(ImportErrorEntity.ReasonCode reasonCode, String message, Throwable cause) {
+        super(message, cause);
+        this.reasonCode = reasonCode;
+    }
+
+    public ImportErrorEntity.ReasonCode getReasonCode() {
+        return reasonCode;
+    }
+}
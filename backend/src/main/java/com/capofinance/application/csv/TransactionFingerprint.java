@@ -0,0 +1,20 @@
+package com.capofinance.application.csv;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the duplicate-detection key of a transaction
+ * Mirrors the unique_transaction constraint within a single account or card:
+ * same date + description + amount
+ */
+public final class TransactionFingerprint {
+
+    private TransactionFingerprint() {
+    }
+
+    public static String of(LocalDateTime transactionDate, String description, BigDecimal amount) {
+        return transactionDate + "|" + description + "|" + amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+}
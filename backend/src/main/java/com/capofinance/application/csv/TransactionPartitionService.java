@@ -0,0 +1,65 @@
+package com.capofinance.application.csv;
+
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the monthly partitions of the transactions table ahead of an import.
+ * No-op unless the opt-in partitioning migration has been applied.
+ */
+@Service
+public class TransactionPartitionService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate newTransaction;
+
+    private final Set<LocalDate> knownMonths = ConcurrentHashMap.newKeySet();
+    private volatile Boolean partitioned;
+
+    public TransactionPartitionService(
+            TransactionRepository transactionRepository,
+            PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Missing months are created in their own transaction so the partition DDL commits
+     * immediately and its lock on the transactions table is not held for the rest of the
+     * import; when the table is not partitioned or every month exists, none is opened
+     */
+    public void ensurePartitions(Collection<LocalDate> days) {
+        if (!isPartitioned()) {
+            return;
+        }
+
+        List<LocalDate> missing = days.stream()
+                .map(day -> day.withDayOfMonth(1))
+                .distinct()
+                .filter(month -> !knownMonths.contains(month))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        newTransaction.executeWithoutResult(status -> missing.forEach(transactionRepository::ensurePartition));
+        knownMonths.addAll(missing);
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = transactionRepository.isPartitioned();
+        }
+        return partitioned;
+    }
+}
@@ -0,0 +1,50 @@
+package com.capofinance.application.dedupe;
+
+import com.capofinance.application.categorization.MerchantKeyNormalizer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dice coefficient over character bigrams of the merchant keys of two descriptions
+ * Linear in the description length; insensitive to case, accents, dates, ids and
+ * location suffixes, which is what differs between re-issued statements.
+ */
+public final class DescriptionSimilarity {
+
+    private DescriptionSimilarity() {
+    }
+
+    public static double of(String first, String second) {
+        String a = MerchantKeyNormalizer.normalize(first);
+        String b = MerchantKeyNormalizer.normalize(second);
+        // No merchant name left (only digits, dates or punctuation): nothing to compare
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.length() < 2 || b.length() < 2) {
+            return 0.0;
+        }
+
+        Map<Integer, Integer> bigrams = new HashMap<>();
+        for (int i = 0; i < a.length() - 1; i++) {
+            bigrams.merge(bigram(a, i), 1, Integer::sum);
+        }
+        int shared = 0;
+        for (int i = 0; i < b.length() - 1; i++) {
+            Integer count = bigrams.get(bigram(b, i));
+            if (count != null && count > 0) {
+                bigrams.put(bigram(b, i), count - 1);
+                shared++;
+            }
+        }
+        return 2.0 * shared / ((a.length() - 1) + (b.length() - 1));
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.capofinance.application.dedupe;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.balance.AccountBalanceService;
+import com.capofinance.domain.DuplicateCandidateEntity;
+import com.capofinance.domain.ImportEntity;
+import com.capofinance.infrastructure.DuplicateCandidateRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Finds near-duplicates the exact unique constraint misses (slightly different
+ * description, a date shifted by a day) between a new import and the rest of the ledger
+ * Candidates are blocked in SQL by amount, type, account/card and a date window, so each
+ * new row is only compared with the few rows of its block; descriptions are then scored
+ * with DescriptionSimilarity and pairs above the threshold are queued for review.
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private final TransactionRepository transactionRepository;
+    private final DuplicateCandidateRepository duplicateCandidateRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final LedgerVersionService ledgerVersionService;
+    private final int dateWindowDays;
+    private final double minSimilarity;
+
+    public DuplicateDetectionService(
+            TransactionRepository transactionRepository,
+            DuplicateCandidateRepository duplicateCandidateRepository,
+            AccountBalanceService accountBalanceService,
+            LedgerVersionService ledgerVersionService,
+            @Value("${capofinance.dedupe.date-window-days:7}") int dateWindowDays,
+            @Value("${capofinance.dedupe.min-similarity:0.8}") double minSimilarity) {
+        this.transactionRepository = transactionRepository;
+        this.duplicateCandidateRepository = duplicateCandidateRepository;
+        this.accountBalanceService = accountBalanceService;
+        this.ledgerVersionService = ledgerVersionService;
+        this.dateWindowDays = dateWindowDays;
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * Compares only the rows of the given import; safe to repeat
+     */
+    @Transactional
+    public int detectForImport(ImportEntity importEntity) {
+        int found = 0;
+        for (Object[] row : transactionRepository.findDuplicateCandidates(
+                importEntity.getImportType().name(), importEntity.getId(), dateWindowDays)) {
+            double similarity = DescriptionSimilarity.of((String) row[1], (String) row[3]);
+            if (similarity < minSimilarity) {
+                continue;
+            }
+            // The later row (higher id) is the suspected duplicate
+            long id = ((Number) row[0]).longValue();
+            long otherId = ((Number) row[2]).longValue();
+            found += duplicateCandidateRepository.insertIfAbsent(
+                    Math.max(id, otherId),
+                    Math.min(id, otherId),
+                    BigDecimal.valueOf(similarity).setScale(3, RoundingMode.HALF_UP));
+        }
+        return found;
+    }
+
+    public Page<DuplicateCandidateEntity> findByStatus(DuplicateCandidateEntity.Status status, Pageable pageable) {
+        return duplicateCandidateRepository.findByStatusOrderByCreatedAtDescIdDesc(status, pageable);
+    }
+
+    /**
+     * Removes the later transaction of the pair
+     */
+    @Transactional
+    public Optional<DuplicateCandidateEntity> confirm(Long id) {
+        return pending(id).map(candidate -> {
+            transactionRepository.findById(candidate.getTransactionId()).ifPresent(duplicate -> {
+                transactionRepository.unpairTransfer(duplicate.getId());
+                transactionRepository.delete(duplicate);
+                transactionRepository.flush();
+                duplicateCandidateRepository.deletePendingInvolving(duplicate.getId(), candidate.getId());
+                if (duplicate.getAccountId() != null) {
+                    accountBalanceService.refreshCurrentBalance(duplicate.getAccountId());
+                }
+                ledgerVersionService.bump();
+            });
+            return review(candidate, DuplicateCandidateEntity.Status.CONFIRMED);
+        });
+    }
+
+    @Transactional
+    public Optional<DuplicateCandidateEntity> dismiss(Long id) {
+        return pending(id).map(candidate -> review(candidate, DuplicateCandidateEntity.Status.DISMISSED));
+    }
+
+    private Optional<DuplicateCandidateEntity> pending(Long id) {
+        return duplicateCandidateRepository.findById(id).map(candidate -> {
+            if (candidate.getStatus() != DuplicateCandidateEntity.Status.PENDING) {
+                throw new IllegalArgumentException("Duplicate candidate was already reviewed");
+            }
+            return candidate;
+        });
+    }
+
+    private DuplicateCandidateEntity review(DuplicateCandidateEntity candidate, DuplicateCandidateEntity.Status status) {
+        candidate.setStatus(status);
+        candidate.setReviewedAt(LocalDateTime.now());
+        return duplicateCandidateRepository.save(candidate);
+    }
+}
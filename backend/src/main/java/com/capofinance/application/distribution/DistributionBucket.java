@@ -0,0 +1,20 @@
+package com.capofinance.application.distribution;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Target vs actual of one distribution category ("bucket")
+ */
+@Data
+@Builder
+public class DistributionBucket {
+    private Long categoryId;
+    private BigDecimal targetPercentage;
+    private BigDecimal targetAmount;
+    private BigDecimal actualAmount;
+    private BigDecimal actualPercentage; // null when there was no income
+    private BigDecimal difference; // actual - target
+}
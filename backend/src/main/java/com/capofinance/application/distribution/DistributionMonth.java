@@ -0,0 +1,19 @@
+package com.capofinance.application.distribution;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Distribution of one month's income across the buckets
+ */
+@Data
+@Builder
+public class DistributionMonth {
+    private YearMonth month;
+    private BigDecimal income;
+    private List<DistributionBucket> buckets;
+}
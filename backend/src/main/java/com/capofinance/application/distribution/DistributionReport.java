@@ -0,0 +1,19 @@
+package com.capofinance.application.distribution;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Month-by-month distribution plus the totals of the whole period
+ */
+@Data
+@Builder
+public class DistributionReport {
+    private Long personId; // null = household
+    private List<DistributionMonth> months;
+    private BigDecimal totalIncome;
+    private List<DistributionBucket> totals;
+}
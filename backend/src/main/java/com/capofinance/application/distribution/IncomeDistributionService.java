@@ -0,0 +1,182 @@
+package com.capofinance.application.distribution;
+
+import com.capofinance.application.analytics.AnalyticsResultCache;
+import com.capofinance.domain.IncomeDistributionRuleEntity;
+import com.capofinance.infrastructure.IncomeDistributionRuleRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Actual vs target income distribution ("money buckets")
+ * Replaces v_income_distribution_analysis: the history is loaded as one grouped aggregate,
+ * cached per ledger version, and every report or what-if replay runs in memory over it.
+ */
+@Service
+@RequiredArgsConstructor
+public class IncomeDistributionService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final TransactionRepository transactionRepository;
+    private final IncomeDistributionRuleRepository ruleRepository;
+    private final AnalyticsResultCache resultCache;
+
+    /**
+     * Distribution using the active rules; personId null reports the whole household
+     */
+    public DistributionReport getReport(String start, String end, Long personId) {
+        return compute(loadLedger(), resolveTargets(personId), parseMonth(start), parseMonth(end), personId);
+    }
+
+    /**
+     * Replay an alternate percentage set (category id -> percentage) over the whole history
+     */
+    public DistributionReport simulate(Map<Long, BigDecimal> percentages, Long personId) {
+        validate(percentages);
+        return compute(loadLedger(), new TreeMap<>(percentages), null, null, personId);
+    }
+
+    private MonthlyLedger loadLedger() {
+        return resultCache.get("monthlyCategoryTotals", List.of(), () -> {
+            MonthlyLedger.Builder builder = MonthlyLedger.builder();
+            for (Object[] row : transactionRepository.getMonthlyTotalsByPersonAndCategory()) {
+                YearMonth month = YearMonth.from(toLocalDate(row[0]));
+                Long personId = row[1] != null ? ((Number) row[1]).longValue() : null;
+                Long categoryId = row[2] != null ? ((Number) row[2]).longValue() : null;
+                BigDecimal total = (BigDecimal) row[4];
+                if ("INCOME".equals(row[3].toString())) {
+                    builder.addIncome(month, personId, total);
+                } else {
+                    builder.addExpense(month, personId, categoryId, total);
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    private Map<Long, BigDecimal> resolveTargets(Long personId) {
+        Map<Long, BigDecimal> targets = new TreeMap<>();
+        List<IncomeDistributionRuleEntity> rules = ruleRepository.findByIsActiveTrue();
+        rules.stream()
+                .filter(rule -> rule.getPersonId() == null)
+                .forEach(rule -> targets.put(rule.getCategoryId(), rule.getPercentage()));
+        if (personId != null) {
+            rules.stream()
+                    .filter(rule -> personId.equals(rule.getPersonId()))
+                    .forEach(rule -> targets.put(rule.getCategoryId(), rule.getPercentage()));
+        }
+        return targets;
+    }
+
+    private DistributionReport compute(MonthlyLedger ledger, Map<Long, BigDecimal> targets,
+                                       YearMonth start, YearMonth end, Long personId) {
+        List<DistributionMonth> months = new ArrayList<>();
+        Map<Long, BigDecimal> totalActual = new LinkedHashMap<>();
+        BigDecimal totalIncome = BigDecimal.ZERO;
+
+        for (Map.Entry<YearMonth, Map<Long, MonthlyLedger.PersonMonth>> entry : ledger.getMonths().entrySet()) {
+            YearMonth month = entry.getKey();
+            if ((start != null && month.isBefore(start)) || (end != null && month.isAfter(end))) {
+                continue;
+            }
+
+            BigDecimal income = BigDecimal.ZERO;
+            Map<Long, BigDecimal> actual = new LinkedHashMap<>();
+            for (Map.Entry<Long, MonthlyLedger.PersonMonth> person : entry.getValue().entrySet()) {
+                if (personId != null && !personId.equals(person.getKey())) {
+                    continue;
+                }
+                income = income.add(person.getValue().getIncome());
+                for (Long categoryId : targets.keySet()) {
+                    actual.merge(categoryId, person.getValue().getExpense(categoryId), BigDecimal::add);
+                }
+            }
+            if (income.signum() == 0 && actual.values().stream().allMatch(amount -> amount.signum() == 0)) {
+                continue;
+            }
+
+            totalIncome = totalIncome.add(income);
+            actual.forEach((categoryId, amount) -> totalActual.merge(categoryId, amount, BigDecimal::add));
+            months.add(DistributionMonth.builder()
+                    .month(month)
+                    .income(income)
+                    .buckets(buckets(targets, income, actual))
+                    .build());
+        }
+
+        return DistributionReport.builder()
+                .personId(personId)
+                .months(months)
+                .totalIncome(totalIncome)
+                .totals(buckets(targets, totalIncome, totalActual))
+                .build();
+    }
+
+    private List<DistributionBucket> buckets(Map<Long, BigDecimal> targets, BigDecimal income,
+                                             Map<Long, BigDecimal> actual) {
+        List<DistributionBucket> buckets = new ArrayList<>(targets.size());
+        targets.forEach((categoryId, percentage) -> {
+            BigDecimal targetAmount = income.multiply(percentage).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            BigDecimal actualAmount = actual.getOrDefault(categoryId, BigDecimal.ZERO);
+            buckets.add(DistributionBucket.builder()
+                    .categoryId(categoryId)
+                    .targetPercentage(percentage)
+                    .targetAmount(targetAmount)
+                    .actualAmount(actualAmount)
+                    .actualPercentage(income.signum() > 0
+                            ? actualAmount.multiply(HUNDRED).divide(income, 2, RoundingMode.HALF_UP)
+                            : null)
+                    .difference(actualAmount.subtract(targetAmount))
+                    .build());
+        });
+        return buckets;
+    }
+
+    private void validate(Map<Long, BigDecimal> percentages) {
+        if (percentages == null || percentages.isEmpty()) {
+            throw new IllegalArgumentException("At least one category percentage is required");
+        }
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Map.Entry<Long, BigDecimal> entry : percentages.entrySet()) {
+            BigDecimal percentage = entry.getValue();
+            if (entry.getKey() == null || percentage == null
+                    || percentage.signum() < 0 || percentage.compareTo(HUNDRED) > 0) {
+                throw new IllegalArgumentException("Percentages must be between 0 and 100");
+            }
+            sum = sum.add(percentage);
+        }
+        if (sum.compareTo(HUNDRED) > 0) {
+            throw new IllegalArgumentException("Percentages must not add up to more than 100");
+        }
+    }
+
+    private YearMonth parseMonth(String month) {
+        if (month == null || month.isBlank()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("month must be formatted as YYYY-MM");
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        Objects.requireNonNull(value, "month");
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
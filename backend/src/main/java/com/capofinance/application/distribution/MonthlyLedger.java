@@ -0,0 +1,75 @@
+package com.capofinance.application.distribution;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable in-memory copy of the monthly income/expense totals per person and category
+ * Built once per ledger version; every distribution report and what-if replay reads it
+ * without touching the database.
+ */
+public class MonthlyLedger {
+
+    private final NavigableMap<YearMonth, Map<Long, PersonMonth>> months;
+
+    private MonthlyLedger(NavigableMap<YearMonth, Map<Long, PersonMonth>> months) {
+        this.months = months;
+    }
+
+    public NavigableMap<YearMonth, Map<Long, PersonMonth>> getMonths() {
+        return months;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Income and expenses by category of one person in one month
+     */
+    public static class PersonMonth {
+        private BigDecimal income = BigDecimal.ZERO;
+        private final Map<Long, BigDecimal> expensesByCategory = new HashMap<>();
+
+        public BigDecimal getIncome() {
+            return income;
+        }
+
+        public BigDecimal getExpense(Long categoryId) {
+            return expensesByCategory.getOrDefault(categoryId, BigDecimal.ZERO);
+        }
+    }
+
+    public static class Builder {
+        private final NavigableMap<YearMonth, Map<Long, PersonMonth>> months = new TreeMap<>();
+
+        public Builder addIncome(YearMonth month, Long personId, BigDecimal amount) {
+            PersonMonth personMonth = personMonth(month, personId);
+            personMonth.income = personMonth.income.add(amount);
+            return this;
+        }
+
+        public Builder addExpense(YearMonth month, Long personId, Long categoryId, BigDecimal amount) {
+            if (categoryId != null) {
+                personMonth(month, personId).expensesByCategory.merge(categoryId, amount, BigDecimal::add);
+            }
+            return this;
+        }
+
+        public MonthlyLedger build() {
+            NavigableMap<YearMonth, Map<Long, PersonMonth>> frozen = new TreeMap<>();
+            months.forEach((month, people) -> frozen.put(month, Collections.unmodifiableMap(people)));
+            return new MonthlyLedger(Collections.unmodifiableNavigableMap(frozen));
+        }
+
+        private PersonMonth personMonth(YearMonth month, Long personId) {
+            return months.computeIfAbsent(month, m -> new HashMap<>())
+                    .computeIfAbsent(personId, p -> new PersonMonth());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.capofinance.application.events;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact notification of a change to the ledger, fanned out to SSE subscribers
+ * Only the fields relevant to the event type are set.
+ */
+@Data
+@Builder
+public class LedgerChangeEvent {
+
+    // Larger changes only carry updatedRows; subscribers reload instead of patching rows
+    public static final int MAX_TRANSACTION_IDS = 100;
+
+    private Type type;
+    private Long importId;
+    private String fileName;
+    private Integer processedRows;
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer skippedRows;
+    private Integer errorRows;
+    private String status;
+    private List<Long> transactionIds;
+    private Integer updatedRows;
+    private Long categoryId;
+    private Long subcategoryId;
+
+    /**
+     * Ids to embed in an event, null when there are none or more than MAX_TRANSACTION_IDS
+     */
+    public static List<Long> compactIds(Collection<Long> ids) {
+        return ids == null || ids.isEmpty() || ids.size() > MAX_TRANSACTION_IDS ? null : List.copyOf(ids);
+    }
+
+    public enum Type {
+        IMPORT_STARTED,
+        IMPORT_PROGRESS,
+        IMPORT_FINISHED,
+        IMPORT_REVERTED,
+        TRANSACTIONS_RECATEGORIZED,
+        TRANSFERS_RECONCILED,
+        TRANSACTIONS_TAGGED
+    }
+}
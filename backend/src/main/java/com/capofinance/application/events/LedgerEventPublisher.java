@@ -0,0 +1,41 @@
+package com.capofinance.application.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes ledger change events as Spring application events
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Publishes right away, for transient state such as import progress
+     */
+    public void publish(LedgerChangeEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Publishes once the current transaction commits, so subscribers that react by
+     * re-reading data see the change; publishes right away outside a transaction
+     */
+    public void publishAfterCommit(LedgerChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+}
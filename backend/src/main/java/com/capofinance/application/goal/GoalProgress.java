@@ -0,0 +1,20 @@
+package com.capofinance.application.goal;
+
+import com.capofinance.domain.GoalEntity;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A goal with its rolling contribution rate and projected completion
+ */
+@Data
+@Builder
+public class GoalProgress {
+    private GoalEntity goal;
+    private BigDecimal monthlyContributionRate;
+    private LocalDate projectedCompletionDate; // null when the rate is not positive
+    private Boolean onTrack; // null without a target date
+}
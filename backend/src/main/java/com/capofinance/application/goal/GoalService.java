@@ -0,0 +1,184 @@
+package com.capofinance.application.goal;
+
+import com.capofinance.domain.GoalEntity;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.GoalRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Financial goals fed by the expenses of a category (e.g. "Financial Freedom")
+ * current_amount and the monthly goal_contributions are maintained incrementally by
+ * the transactions_goal_progress trigger (V12) in the transaction of every import,
+ * recategorization and revert; projections only read those small tables.
+ */
+@Service
+public class GoalService {
+
+    private final GoalRepository goalRepository;
+    private final CategoryRepository categoryRepository;
+    private final PersonRepository personRepository;
+    private final int rateWindowMonths;
+
+    public GoalService(
+            GoalRepository goalRepository,
+            CategoryRepository categoryRepository,
+            PersonRepository personRepository,
+            @Value("${capofinance.goals.rate-window-months:3}") int rateWindowMonths) {
+        this.goalRepository = goalRepository;
+        this.categoryRepository = categoryRepository;
+        this.personRepository = personRepository;
+        this.rateWindowMonths = Math.max(1, rateWindowMonths);
+    }
+
+    public List<GoalProgress> findAll() {
+        Map<Long, BigDecimal> recentContributions = recentContributions();
+        return goalRepository.findAllByOrderByPriorityDescIdAsc().stream()
+                .map(goal -> toProgress(goal, recentContributions))
+                .collect(Collectors.toList());
+    }
+
+    public Optional<GoalProgress> findById(Long id) {
+        return goalRepository.findById(id).map(goal -> toProgress(goal, recentContributions()));
+    }
+
+    @Transactional
+    public GoalProgress create(GoalEntity goal) {
+        validate(goal);
+        goal.setStatus(GoalEntity.GoalStatus.ACTIVE);
+
+        goalRepository.lockForUpdate();
+        GoalEntity saved = goalRepository.save(goal);
+        rebuildProgress(saved.getId());
+        return findById(saved.getId()).orElseThrow();
+    }
+
+    /**
+     * Name, description, target and priority can change; a different category or person is a different goal.
+     * Status only moves between CANCELLED and ACTIVE here, completion follows the amounts.
+     */
+    @Transactional
+    public Optional<GoalProgress> update(Long id, GoalEntity changes, GoalEntity.GoalStatus status) {
+        return goalRepository.findById(id).map(goal -> {
+            if (changes.getName() != null) {
+                validateName(changes.getName());
+                goal.setName(changes.getName());
+            }
+            if (changes.getDescription() != null) {
+                goal.setDescription(changes.getDescription());
+            }
+            if (changes.getTargetAmount() != null) {
+                validateTargetAmount(changes.getTargetAmount());
+                goal.setTargetAmount(changes.getTargetAmount());
+            }
+            if (changes.getTargetDate() != null) {
+                goal.setTargetDate(changes.getTargetDate());
+            }
+            if (changes.getPriority() != null) {
+                goal.setPriority(changes.getPriority());
+            }
+            goalRepository.save(goal);
+
+            boolean cancelled = goal.getStatus() == GoalEntity.GoalStatus.CANCELLED;
+            if (status == GoalEntity.GoalStatus.CANCELLED && !cancelled) {
+                goalRepository.setStatus(id, GoalEntity.GoalStatus.CANCELLED.name());
+            } else if (status != null && status != GoalEntity.GoalStatus.CANCELLED && cancelled) {
+                // The trigger skipped the goal while it was cancelled
+                goalRepository.lockForUpdate();
+                goalRepository.setStatus(id, GoalEntity.GoalStatus.ACTIVE.name());
+                rebuildProgress(id);
+            } else {
+                goalRepository.refreshStatus(id);
+            }
+            return findById(id).orElseThrow();
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        if (!goalRepository.existsById(id)) {
+            return false;
+        }
+        goalRepository.deleteById(id);
+        return true;
+    }
+
+    private void rebuildProgress(Long id) {
+        goalRepository.deleteContributions(id);
+        goalRepository.insertContributions(id);
+        goalRepository.initializeCurrent(id);
+        goalRepository.refreshStatus(id);
+    }
+
+    private Map<Long, BigDecimal> recentContributions() {
+        String fromMonth = YearMonth.now().minusMonths(rateWindowMonths - 1L).toString();
+        Map<Long, BigDecimal> contributions = new HashMap<>();
+        for (Object[] row : goalRepository.sumContributionsSince(fromMonth)) {
+            contributions.put(((Number) row[0]).longValue(), (BigDecimal) row[1]);
+        }
+        return contributions;
+    }
+
+    private GoalProgress toProgress(GoalEntity goal, Map<Long, BigDecimal> recentContributions) {
+        BigDecimal rate = recentContributions.getOrDefault(goal.getId(), BigDecimal.ZERO)
+                .divide(BigDecimal.valueOf(rateWindowMonths), 2, RoundingMode.HALF_UP);
+        LocalDate projected = projectCompletion(goal, rate);
+
+        return GoalProgress.builder()
+                .goal(goal)
+                .monthlyContributionRate(rate)
+                .projectedCompletionDate(projected)
+                .onTrack(goal.getTargetDate() != null && goal.getStatus() != GoalEntity.GoalStatus.CANCELLED
+                        ? projected != null && !projected.isAfter(goal.getTargetDate())
+                        : null)
+                .build();
+    }
+
+    private LocalDate projectCompletion(GoalEntity goal, BigDecimal rate) {
+        if (goal.getStatus() == GoalEntity.GoalStatus.COMPLETED) {
+            return goal.getCompletedAt() != null ? goal.getCompletedAt().toLocalDate() : LocalDate.now();
+        }
+        if (goal.getStatus() == GoalEntity.GoalStatus.CANCELLED || rate.signum() <= 0) {
+            return null;
+        }
+        BigDecimal current = goal.getCurrentAmount() != null ? goal.getCurrentAmount() : BigDecimal.ZERO;
+        BigDecimal remaining = goal.getTargetAmount().subtract(current);
+        long months = remaining.divide(rate, 0, RoundingMode.CEILING).longValue();
+        return LocalDate.now().plusMonths(months);
+    }
+
+    private void validate(GoalEntity goal) {
+        validateName(goal.getName());
+        validateTargetAmount(goal.getTargetAmount());
+        if (goal.getCategoryId() == null || !categoryRepository.existsById(goal.getCategoryId())) {
+            throw new IllegalArgumentException("categoryId must reference an existing category");
+        }
+        if (goal.getPersonId() != null && !personRepository.existsById(goal.getPersonId())) {
+            throw new IllegalArgumentException("personId must reference an existing person");
+        }
+    }
+
+    private void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+    }
+
+    private void validateTargetAmount(BigDecimal targetAmount) {
+        if (targetAmount == null || targetAmount.signum() <= 0) {
+            throw new IllegalArgumentException("targetAmount must be positive");
+        }
+    }
+}
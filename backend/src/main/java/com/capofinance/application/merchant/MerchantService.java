@@ -0,0 +1,114 @@
+package com.capofinance.application.merchant;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.categorization.MerchantKeyNormalizer;
+import com.capofinance.infrastructure.MerchantRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns transaction descriptions into the merchants dimension
+ * Each normalized merchant key maps to one merchants row; ids are kept in memory
+ * so an import only hits the table for keys it has not seen yet. Merchants are
+ * never deleted, so a cached id stays valid for the lifetime of the application.
+ */
+@Service
+public class MerchantService {
+
+    private final MerchantRepository merchantRepository;
+    private final TransactionRepository transactionRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final int backfillBatchSize;
+    private final boolean backfillOnStartup;
+
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+
+    public MerchantService(
+            MerchantRepository merchantRepository,
+            TransactionRepository transactionRepository,
+            LedgerVersionService ledgerVersionService,
+            @Value("${capofinance.merchants.backfill-batch-size:1000}") int backfillBatchSize,
+            @Value("${capofinance.merchants.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.merchantRepository = merchantRepository;
+        this.transactionRepository = transactionRepository;
+        this.ledgerVersionService = ledgerVersionService;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * Merchant id of a raw description, creating the merchant on first sight
+     * Descriptions without a merchant name (only digits, dates or punctuation) get
+     * no merchant; recurring detection falls back to the description for those rows.
+     */
+    public Long resolve(String description) {
+        if (description == null) {
+            return null;
+        }
+
+        String key = MerchantKeyNormalizer.normalize(description);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Long id = idsByKey.get(key);
+        if (id == null) {
+            id = merchantRepository.findIdByMerchantKey(key).orElseGet(() -> {
+                merchantRepository.insertIfAbsent(key, description);
+                return merchantRepository.findIdByMerchantKey(key).orElseThrow();
+            });
+            idsByKey.put(key, id);
+        }
+        return id;
+    }
+
+    /**
+     * Links rows left without a merchant by the previous version once the application is up,
+     * so merchant-based recurring detection does not depend on a manual backfill call
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * Links transactions imported before the merchants dimension existed
+     * Each batch is one UPDATE per merchant, committed on its own; re-running after
+     * an interruption continues with the rows still unlinked.
+     */
+    public int backfill() {
+        int linked = 0;
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = transactionRepository.findWithoutMerchant(afterId, backfillBatchSize);
+
+            Map<Long, List<Long>> idsByMerchant = new HashMap<>();
+            for (Object[] row : rows) {
+                long transactionId = ((Number) row[0]).longValue();
+                idsByMerchant.computeIfAbsent(resolve((String) row[1]), merchantId -> new ArrayList<>())
+                        .add(transactionId);
+                afterId = transactionId;
+            }
+            idsByMerchant.remove(null);
+            for (Map.Entry<Long, List<Long>> entry : idsByMerchant.entrySet()) {
+                linked += transactionRepository.assignMerchant(entry.getKey(), entry.getValue());
+            }
+        } while (rows.size() == backfillBatchSize);
+
+        if (linked > 0) {
+            ledgerVersionService.bump();
+        }
+        return linked;
+    }
+}
@@ -0,0 +1,33 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.application.balance.AccountBalanceService;
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.ImportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the account's current balance to the latest imported statement row
+ * Idempotent: the balance is read from the ledger, not accumulated.
+ */
+@Order(40)
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceHandler implements OutboxHandler {
+
+    private final ImportRepository importRepository;
+    private final AccountBalanceService accountBalanceService;
+
+    @Override
+    public OutboxEventEntity.EventType getEventType() {
+        return OutboxEventEntity.EventType.IMPORT_COMPLETED;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        importRepository.findById(event.getAggregateId())
+                .filter(importEntity -> importEntity.getAccountId() != null)
+                .ifPresent(importEntity -> accountBalanceService.refreshCurrentBalance(importEntity.getAccountId()));
+    }
+}
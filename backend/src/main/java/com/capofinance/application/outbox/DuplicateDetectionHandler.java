@@ -0,0 +1,32 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.application.dedupe.DuplicateDetectionService;
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.ImportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues near-duplicates of a completed import's rows for review
+ * Idempotent: pairs already recorded are skipped.
+ */
+@Order(30)
+@Component
+@RequiredArgsConstructor
+public class DuplicateDetectionHandler implements OutboxHandler {
+
+    private final ImportRepository importRepository;
+    private final DuplicateDetectionService duplicateDetectionService;
+
+    @Override
+    public OutboxEventEntity.EventType getEventType() {
+        return OutboxEventEntity.EventType.IMPORT_COMPLETED;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        importRepository.findById(event.getAggregateId())
+                .ifPresent(duplicateDetectionService::detectForImport);
+    }
+}
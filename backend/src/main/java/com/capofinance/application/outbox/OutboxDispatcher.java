@@ -0,0 +1,137 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox in the background
+ * Each event is claimed with FOR UPDATE SKIP LOCKED and processed in its own
+ * transaction, so several instances can drain concurrently and an event is marked
+ * done only if all of its handlers committed. Failures are retried with
+ * exponential backoff until max-attempts, then parked as FAILED.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventEntity.EventType, List<OutboxHandler>> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            @Value("${capofinance.outbox.batch-size:50}") int batchSize,
+            @Value("${capofinance.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${capofinance.outbox.retry-base-delay-ms:5000}") long retryBaseDelayMs,
+            @Value("${capofinance.outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        // Injected in @Order; grouping keeps that order within each event type
+        this.handlers = handlers.stream().collect(Collectors.groupingBy(OutboxHandler::getEventType));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMs);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${capofinance.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        for (int i = 0; i < batchSize; i++) {
+            if (!processNext()) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeProcessed() {
+        outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * @return false when no event was due
+     */
+    private boolean processNext() {
+        AtomicReference<Long> claimedId = new AtomicReference<>();
+        try {
+            Boolean processed = transactionTemplate.execute(status -> {
+                Optional<OutboxEventEntity> next = outboxEventRepository.claimNextDue(LocalDateTime.now());
+                if (next.isEmpty()) {
+                    return false;
+                }
+
+                OutboxEventEntity event = next.get();
+                claimedId.set(event.getId());
+                for (OutboxHandler handler : handlers.getOrDefault(event.getEventType(), List.of())) {
+                    handler.handle(event);
+                }
+
+                event.setStatus(OutboxEventEntity.Status.DONE);
+                event.setAttempts(event.getAttempts() + 1);
+                event.setProcessedAt(LocalDateTime.now());
+                event.setLastError(null);
+                outboxEventRepository.save(event);
+                return true;
+            });
+            return Boolean.TRUE.equals(processed);
+        } catch (RuntimeException e) {
+            if (claimedId.get() == null) {
+                log.warn("Could not claim outbox event", e);
+                return false;
+            }
+            recordFailure(claimedId.get(), e);
+            return true;
+        }
+    }
+
+    private void recordFailure(Long eventId, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(eventId).ifPresent(event -> {
+                    int attempts = event.getAttempts() + 1;
+                    event.setAttempts(attempts);
+                    event.setLastError(truncate(String.valueOf(error)));
+                    if (attempts >= maxAttempts) {
+                        event.setStatus(OutboxEventEntity.Status.FAILED);
+                        log.error("Outbox event {} ({} #{}) failed {} times, giving up",
+                                eventId, event.getEventType(), event.getAggregateId(), attempts, error);
+                    } else {
+                        event.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+                        log.warn("Outbox event {} ({} #{}) failed, retry {} of {}",
+                                eventId, event.getEventType(), event.getAggregateId(), attempts, maxAttempts, error);
+                    }
+                    outboxEventRepository.save(event);
+                }));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,18 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.domain.OutboxEventEntity;
+
+/**
+ * Derived work triggered by an outbox event
+ * All handlers of an event run in one transaction together with marking the event
+ * done; a failure rolls them all back and the event is retried, so handlers must be
+ * idempotent (recompute from the ledger rather than apply deltas). Handlers of the
+ * same event run in @Order: transfer pairing, recurring flags, duplicate detection,
+ * account balance.
+ */
+public interface OutboxHandler {
+
+    OutboxEventEntity.EventType getEventType();
+
+    void handle(OutboxEventEntity event);
+}
@@ -0,0 +1,27 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records derived work to be done once the caller's transaction commits
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Must run inside the transaction that produced the change, so the event is
+     * persisted if and only if the change is
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OutboxEventEntity.EventType eventType, Long aggregateId) {
+        outboxEventRepository.enqueue(eventType.name(), aggregateId);
+    }
+}
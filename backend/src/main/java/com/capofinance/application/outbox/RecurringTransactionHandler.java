@@ -0,0 +1,42 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.ImportRepository;
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flags imported transactions that repeat across months as recurring
+ * Idempotent: only rows not yet flagged are updated.
+ */
+@Order(20)
+@Component
+public class RecurringTransactionHandler implements OutboxHandler {
+
+    private final ImportRepository importRepository;
+    private final TransactionRepository transactionRepository;
+    private final int minMonths;
+
+    public RecurringTransactionHandler(
+            ImportRepository importRepository,
+            TransactionRepository transactionRepository,
+            @Value("${capofinance.outbox.recurring.min-months:3}") int minMonths) {
+        this.importRepository = importRepository;
+        this.transactionRepository = transactionRepository;
+        this.minMonths = minMonths;
+    }
+
+    @Override
+    public OutboxEventEntity.EventType getEventType() {
+        return OutboxEventEntity.EventType.IMPORT_COMPLETED;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        importRepository.findById(event.getAggregateId()).ifPresent(importEntity ->
+                transactionRepository.markRecurringForImport(
+                        importEntity.getImportType().name(), importEntity.getId(), minMonths));
+    }
+}
@@ -0,0 +1,32 @@
+package com.capofinance.application.outbox;
+
+import com.capofinance.application.reconciliation.TransferReconciliationService;
+import com.capofinance.domain.OutboxEventEntity;
+import com.capofinance.infrastructure.ImportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches the rows of a completed import against the other leg of transfers
+ * Idempotent: only rows not yet marked TRANSFER take part.
+ */
+@Order(10)
+@Component
+@RequiredArgsConstructor
+public class TransferReconciliationHandler implements OutboxHandler {
+
+    private final ImportRepository importRepository;
+    private final TransferReconciliationService transferReconciliationService;
+
+    @Override
+    public OutboxEventEntity.EventType getEventType() {
+        return OutboxEventEntity.EventType.IMPORT_COMPLETED;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        importRepository.findById(event.getAggregateId())
+                .ifPresent(transferReconciliationService::reconcileImport);
+    }
+}
@@ -0,0 +1,89 @@
+package com.capofinance.application.reconciliation;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.domain.ImportEntity;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Pairs the two legs of transfers and card bill payments and marks them TRANSFER
+ * Matching is one set-based UPDATE that joins the rows of a new import against
+ * the opposite-type rows of the same amount inside the date window; aggregates,
+ * budgets and goals only count INCOME/EXPENSE, so matched pairs drop out of them.
+ * Runs are serialized by an advisory lock, so overlapping runs never pair the same row twice.
+ */
+@Service
+public class TransferReconciliationService {
+
+    private final TransactionRepository transactionRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
+    private final int dateWindowDays;
+
+    public TransferReconciliationService(
+            TransactionRepository transactionRepository,
+            LedgerVersionService ledgerVersionService,
+            LedgerEventPublisher ledgerEventPublisher,
+            @Value("${capofinance.reconciliation.date-window-days:3}") int dateWindowDays) {
+        this.transactionRepository = transactionRepository;
+        this.ledgerVersionService = ledgerVersionService;
+        this.ledgerEventPublisher = ledgerEventPublisher;
+        this.dateWindowDays = dateWindowDays;
+    }
+
+    /**
+     * Matches only pairs with at least one leg in the given import; safe to repeat
+     */
+    @Transactional
+    public int reconcileImport(ImportEntity importEntity) {
+        transactionRepository.lockTransferReconciliation();
+        int updated = transactionRepository.reconcileTransfers(
+                importEntity.getImportType().name(), importEntity.getId(), dateWindowDays);
+        afterChange(updated);
+        return updated / 2;
+    }
+
+    /**
+     * Matches across the whole ledger, for rows imported before reconciliation existed
+     */
+    @Transactional
+    public int reconcileAll() {
+        transactionRepository.lockTransferReconciliation();
+        int updated = transactionRepository.reconcileTransfers(null, null, dateWindowDays);
+        afterChange(updated);
+        return updated / 2;
+    }
+
+    /**
+     * Undoes a wrong match; both legs return to INCOME/EXPENSE and the pair is never matched again
+     */
+    @Transactional
+    public boolean unpair(Long transactionId) {
+        transactionRepository.rejectTransferPair(transactionId);
+        int updated = transactionRepository.unpairTransfer(transactionId);
+        afterChange(updated);
+        return updated > 0;
+    }
+
+    public Page<TransactionEntity> findPairs(Pageable pageable) {
+        return transactionRepository.findByTransactionTypeAndTransferDirection(
+                TransactionEntity.TransactionType.TRANSFER, TransactionEntity.TransferDirection.OUT, pageable);
+    }
+
+    private void afterChange(int updated) {
+        if (updated > 0) {
+            ledgerVersionService.bump();
+            ledgerEventPublisher.publishAfterCommit(LedgerChangeEvent.builder()
+                    .type(LedgerChangeEvent.Type.TRANSFERS_RECONCILED)
+                    .updatedRows(updated)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.capofinance.application.tagging;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of tags: trimmed, lower case, letters/digits/dash/underscore
+ * Tags are passed to native queries as a text[] literal, which the allowed
+ * alphabet keeps free of quoting.
+ */
+public final class TagNormalizer {
+
+    public static final int MAX_TAG_LENGTH = 50;
+
+    private static final Pattern VALID_TAG = Pattern.compile("[a-z0-9][a-z0-9_-]*");
+
+    private TagNormalizer() {
+    }
+
+    public static SortedSet<String> normalize(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            throw new IllegalArgumentException("At least one tag is required");
+        }
+        SortedSet<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            String value = tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_TAG_LENGTH || !VALID_TAG.matcher(value).matches()) {
+                throw new IllegalArgumentException("Tags must be 1-" + MAX_TAG_LENGTH
+                        + " characters of letters, digits, '-' or '_'");
+            }
+            normalized.add(value);
+        }
+        return normalized;
+    }
+
+    public static String toArrayLiteral(Collection<String> normalizedTags) {
+        return "{" + String.join(",", normalizedTags) + "}";
+    }
+}
@@ -0,0 +1,69 @@
+package com.capofinance.application.tagging;
+
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.SortedSet;
+
+/**
+ * Bulk tagging of transactions and tag-filtered listing
+ * Each bulk change is a single UPDATE; lookups use the GIN index on tags.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private static final int MAX_IDS = 10_000;
+
+    private final TransactionRepository transactionRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
+
+    public int addTags(List<Long> ids, List<String> tags) {
+        validateIds(ids);
+        SortedSet<String> normalized = TagNormalizer.normalize(tags);
+        return afterChange(ids, transactionRepository.addTags(ids, TagNormalizer.toArrayLiteral(normalized)));
+    }
+
+    public int removeTags(List<Long> ids, List<String> tags) {
+        validateIds(ids);
+        SortedSet<String> normalized = TagNormalizer.normalize(tags);
+        return afterChange(ids, transactionRepository.removeTags(ids, TagNormalizer.toArrayLiteral(normalized)));
+    }
+
+    /**
+     * Transactions carrying all of the given tags, most recent first
+     */
+    public Page<TransactionEntity> findByTags(List<String> tags, Pageable pageable) {
+        return transactionRepository.findByAllTags(TagNormalizer.toArrayLiteral(TagNormalizer.normalize(tags)), pageable);
+    }
+
+    private int afterChange(List<Long> ids, int updated) {
+        if (updated > 0) {
+            ledgerVersionService.bump();
+            ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                    .type(LedgerChangeEvent.Type.TRANSACTIONS_TAGGED)
+                    .transactionIds(LedgerChangeEvent.compactIds(ids))
+                    .updatedRows(updated)
+                    .build());
+        }
+        return updated;
+    }
+
+    private void validateIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids per request");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "budgets", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"category_id", "subcategory_id", "person_id", "month_year"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // NULL category/subcategory/person = budget covers all of them
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "subcategory_id")
+    private Long subcategoryId;
+
+    @Column(name = "person_id")
+    private Long personId;
+
+    @Column(name = "month_year", nullable = false, length = 7)
+    private String monthYear;
+
+    @Column(name = "planned_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal plannedAmount;
+
+    // Maintained by the transactions_budget_actuals trigger
+    @Column(name = "actual_amount", precision = 14, scale = 2, insertable = false, updatable = false)
+    private BigDecimal actualAmount;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
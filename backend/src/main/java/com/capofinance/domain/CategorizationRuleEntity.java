@@ -0,0 +1,70 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "categorization_rules", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"pattern", "match_type"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategorizationRuleEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String pattern;
+
+    @Column(name = "match_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private MatchType matchType;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer priority = 0;
+
+    @Column(name = "subcategory_id", nullable = false)
+    private Long subcategoryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subcategory_id", insertable = false, updatable = false)
+    private SubcategoryEntity subcategory;
+
+    @Column(name = "person_id")
+    private Long personId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "person_id", insertable = false, updatable = false)
+    private PersonEntity person;
+
+    @Column(name = "is_active")
+    @Builder.Default
+    private Boolean isActive = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum MatchType {
+        CONTAINS, STARTS_WITH, EQUALS
+    }
+}
@@ -2,10 +2,14 @@ package com.capofinance.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "credit-cards")
 @Table(name = "credit_cards", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"name", "person_id"})
 })
@@ -0,0 +1,45 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "duplicate_candidates", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"transaction_id", "duplicate_of_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateCandidateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Later row, removed when the pair is confirmed
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "duplicate_of_id", nullable = false)
+    private Long duplicateOfId;
+
+    @Column(nullable = false, precision = 4, scale = 3)
+    private BigDecimal similarity;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    public enum Status {
+        PENDING, CONFIRMED, DISMISSED
+    }
+}
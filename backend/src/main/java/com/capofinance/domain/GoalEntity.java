@@ -0,0 +1,83 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "goals")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "target_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal targetAmount;
+
+    // Maintained by the transactions_goal_progress trigger
+    @Column(name = "current_amount", precision = 14, scale = 2, insertable = false, updatable = false)
+    private BigDecimal currentAmount;
+
+    @Column(name = "target_date")
+    private LocalDate targetDate;
+
+    // Expenses of this category are contributions to the goal
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    // NULL = contributions of everyone
+    @Column(name = "person_id")
+    private Long personId;
+
+    // ACTIVE <-> COMPLETED is driven by the trigger; cancelling goes through GoalRepository
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, updatable = false)
+    private GoalStatus status;
+
+    private Integer priority;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at", insertable = false, updatable = false)
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = GoalStatus.ACTIVE;
+        }
+        if (priority == null) {
+            priority = 0;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum GoalStatus {
+        ACTIVE,
+        COMPLETED,
+        CANCELLED
+    }
+}
@@ -23,7 +23,7 @@ public class ImportEntity {
     @Column(name = "file_name", nullable = false)
     private String fileName;
 
-    @Column(name = "file_hash", nullable = false, length = 64, unique = true)
+    @Column(name = "file_hash", nullable = false, length = 64)
     private String fileHash;
 
     @Column(name = "import_date")
@@ -62,6 +62,9 @@ public class ImportEntity {
     @Enumerated(EnumType.STRING)
     private ImportStatus status;
 
+    @Column(name = "reverted_at")
+    private LocalDateTime revertedAt;
+
     @PrePersist
     protected void onCreate() {
         if (importDate == null) {
@@ -77,6 +80,6 @@ public class ImportEntity {
     }
 
     public enum ImportStatus {
-        SUCCESS, PARTIAL, FAILED
+        SUCCESS, PARTIAL, FAILED, REVERTED
     }
 }
@@ -0,0 +1,52 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "import_errors")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false)
+    private Long importId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "import_id", insertable = false, updatable = false)
+    private ImportEntity importRecord;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    @Column(name = "byte_offset")
+    private Long byteOffset;
+
+    @Column(name = "reason_code", nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private ReasonCode reasonCode;
+
+    public enum ReasonCode {
+        MISSING_COLUMN("Row has fewer columns than the header"),
+        INVALID_DATE("Date could not be parsed"),
+        INVALID_AMOUNT("Amount could not be parsed"),
+        PERSIST_FAILED("Row could not be saved"),
+        UNKNOWN("Unexpected error");
+
+        private final String description;
+
+        ReasonCode(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "income_distribution_rules", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"category_id", "person_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IncomeDistributionRuleEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal percentage;
+
+    // NULL = household-wide rule; a person-specific rule overrides it for that person
+    @Column(name = "person_id")
+    private Long personId;
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ledger_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerVersionEntity {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
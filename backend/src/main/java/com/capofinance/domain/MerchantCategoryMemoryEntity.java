@@ -0,0 +1,36 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "merchant_category_memory")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MerchantCategoryMemoryEntity {
+
+    @Id
+    @Column(name = "merchant_key", length = 100)
+    private String merchantKey;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "subcategory_id")
+    private Long subcategoryId;
+
+    @Column(nullable = false)
+    private Integer confidence;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "change_txid", insertable = false, updatable = false)
+    private Long changeTxid;
+}
@@ -0,0 +1,29 @@
+package com.capofinance.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "merchants")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MerchantEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Normalized description (MerchantKeyNormalizer)
+    @Column(name = "merchant_key", nullable = false, unique = true, length = 100)
+    private String merchantKey;
+
+    // First raw description seen for the key
+    @Column(name = "display_name", nullable = false, columnDefinition = "TEXT")
+    private String displayName;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
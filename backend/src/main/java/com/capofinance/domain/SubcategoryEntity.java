@@ -2,9 +2,13 @@ package com.capofinance.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subcategories")
 @Table(name = "subcategories", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"category_id", "name"})
 })
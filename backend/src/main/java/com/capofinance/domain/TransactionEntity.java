@@ -78,6 +78,14 @@ public class TransactionEntity {
     @JoinColumn(name = "person_id", insertable = false, updatable = false)
     private PersonEntity person;
 
+    // Normalized merchant of the description
+    @Column(name = "merchant_id")
+    private Long merchantId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "merchant_id", insertable = false, updatable = false)
+    private MerchantEntity merchant;
+
     // Additional fields from CSVs
     @Column(name = "balance_after", precision = 14, scale = 2)
     private BigDecimal balanceAfter;
@@ -93,6 +101,14 @@ public class TransactionEntity {
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
 
+    // Other leg of a TRANSFER pair and the original direction of this leg
+    @Column(name = "transfer_pair_id")
+    private Long transferPairId;
+
+    @Column(name = "transfer_direction", length = 3)
+    @Enumerated(EnumType.STRING)
+    private TransferDirection transferDirection;
+
     // Metadata
     @Column(columnDefinition = "TEXT")
     private String notes;
@@ -136,4 +152,8 @@ public class TransactionEntity {
     public enum TransactionType {
         INCOME, EXPENSE, TRANSFER
     }
+
+    public enum TransferDirection {
+        IN, OUT
+    }
 }
@@ -1,10 +1,15 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.AccountEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +19,7 @@ public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
     
     // Active accounts
     List<AccountEntity> findByIsActiveTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AccountEntity> findByIsActiveTrueOrderByName();
     
     // Shared accounts
@@ -39,4 +45,18 @@ public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
     
     @Query("SELECT SUM(a.currentBalance) FROM AccountEntity a WHERE a.isActive = true AND a.personId = :personId")
     java.math.BigDecimal getTotalBalanceByPerson(@Param("personId") Long personId);
+    
+    // current_balance follows the latest statement row of the account; idempotent,
+    // unchanged when the account has no statement rows
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
+    @Transactional
+    @Query(value = "UPDATE accounts SET current_balance = COALESCE((" +
+                   "SELECT t.balance_after FROM transactions t " +
+                   "WHERE t.account_id = :accountId AND t.balance_after IS NOT NULL " +
+                   "ORDER BY t.transaction_date DESC, t.id DESC LIMIT 1), current_balance), " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :accountId",
+           nativeQuery = true)
+    int refreshCurrentBalance(@Param("accountId") Long accountId);
 }
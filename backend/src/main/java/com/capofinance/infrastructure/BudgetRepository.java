@@ -0,0 +1,42 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.BudgetEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<BudgetEntity, Long> {
+    
+    // Planned vs actual for one month (actual_amount is kept current by trigger)
+    List<BudgetEntity> findByMonthYearOrderByCategoryIdAscSubcategoryIdAscPersonIdAsc(String monthYear);
+    
+    // Waits for in-flight transaction writes, whose trigger updates cannot see a budget
+    // that is not committed yet, so the initial actual computed next includes them
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "budgets"))
+    @Query(value = "LOCK TABLE budgets IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForCreate();
+    
+    // One-time initial actual of a new budget; afterwards only deltas are applied
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "budgets"))
+    @Query(value = "UPDATE budgets b SET actual_amount = COALESCE((" +
+                   "SELECT SUM(t.amount) FROM transactions t " +
+                   "WHERE t.transaction_type = 'EXPENSE' " +
+                   "AND t.transaction_date >= TO_DATE(b.month_year, 'YYYY-MM') " +
+                   "AND t.transaction_date < TO_DATE(b.month_year, 'YYYY-MM') + INTERVAL '1 month' " +
+                   "AND (b.category_id IS NULL OR t.category_id = b.category_id) " +
+                   "AND (b.subcategory_id IS NULL OR t.subcategory_id = b.subcategory_id) " +
+                   "AND (b.person_id IS NULL OR t.person_id = b.person_id)), 0) " +
+                   "WHERE b.id = :id",
+           nativeQuery = true)
+    int initializeActual(@Param("id") Long id);
+}
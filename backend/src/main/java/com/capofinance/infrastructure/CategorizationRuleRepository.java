@@ -0,0 +1,22 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.CategorizationRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategorizationRuleRepository extends JpaRepository<CategorizationRuleEntity, Long> {
+    
+    // Active rules
+    List<CategorizationRuleEntity> findByIsActiveTrue();
+    
+    // Listing
+    List<CategorizationRuleEntity> findAllByOrderByPriorityDescPatternAsc();
+    
+    // Change detection: any insert/update/delete moves the count or the last update time
+    @Query("SELECT COUNT(r), MAX(r.updatedAt) FROM CategorizationRuleEntity r")
+    List<Object[]> getChangeMarker();
+}
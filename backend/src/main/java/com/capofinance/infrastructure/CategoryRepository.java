@@ -1,7 +1,10 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.CategoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +21,7 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
     
     // Active categories
     List<CategoryEntity> findByIsActiveTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CategoryEntity> findByIsActiveTrueOrderBySortOrder();
     
     // Search
@@ -38,4 +42,8 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
            "WHERE c.isActive = true " +
            "GROUP BY c ORDER BY c.sortOrder")
     List<Object[]> findActiveCategoriesWithSubcategoryCount();
+    
+    // Change detection for cached reference data
+    @Query("SELECT COUNT(x), MAX(x.updatedAt) FROM CategoryEntity x")
+    List<Object[]> getChangeMarker();
 }
@@ -1,7 +1,10 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.CreditCardEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +18,7 @@ public interface CreditCardRepository extends JpaRepository<CreditCardEntity, Lo
     
     // Active cards
     List<CreditCardEntity> findByIsActiveTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CreditCardEntity> findByIsActiveTrueOrderByName();
     
     // Shared cards
@@ -0,0 +1,58 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.DuplicateCandidateEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface DuplicateCandidateRepository extends JpaRepository<DuplicateCandidateEntity, Long> {
+    
+    // Review queue
+    Page<DuplicateCandidateEntity> findByStatusOrderByCreatedAtDescIdDesc(
+        DuplicateCandidateEntity.Status status,
+        Pageable pageable
+    );
+    
+    // Records a finding; a pair already found (or reviewed) is left as is
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "duplicate_candidates"))
+    @Query(value = "INSERT INTO duplicate_candidates (transaction_id, duplicate_of_id, similarity) " +
+                   "VALUES (:transactionId, :duplicateOfId, :similarity) " +
+                   "ON CONFLICT (transaction_id, duplicate_of_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(
+        @Param("transactionId") Long transactionId,
+        @Param("duplicateOfId") Long duplicateOfId,
+        @Param("similarity") BigDecimal similarity
+    );
+    
+    // Pending pairs that involve a transaction about to be removed
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "duplicate_candidates"))
+    @Query(value = "DELETE FROM duplicate_candidates " +
+                   "WHERE status = 'PENDING' AND (transaction_id = :id OR duplicate_of_id = :id) AND id <> :keepId",
+           nativeQuery = true)
+    int deletePendingInvolving(@Param("id") Long transactionId, @Param("keepId") Long keepId);
+    
+    // All pairs that involve rows of an import, before the import is reverted
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "duplicate_candidates"))
+    @Transactional
+    @Query(value = "DELETE FROM duplicate_candidates d " +
+                   "USING transactions t " +
+                   "WHERE t.source_type = :sourceType AND t.import_id = :importId " +
+                   "AND (d.transaction_id = t.id OR d.duplicate_of_id = t.id)",
+           nativeQuery = true)
+    int deleteForImport(@Param("sourceType") String sourceType, @Param("importId") Long importId);
+}
@@ -0,0 +1,78 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.GoalEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GoalRepository extends JpaRepository<GoalEntity, Long> {
+    
+    // All goals, most important first (current_amount is kept current by trigger)
+    List<GoalEntity> findAllByOrderByPriorityDescIdAsc();
+    
+    // Contributions per goal since the given month (YYYY-MM), for the rolling contribution rate
+    @Query(value = "SELECT goal_id, SUM(amount) FROM goal_contributions " +
+                   "WHERE month_year >= :fromMonth " +
+                   "GROUP BY goal_id",
+           nativeQuery = true)
+    List<Object[]> sumContributionsSince(@Param("fromMonth") String fromMonth);
+    
+    // Waits for in-flight transaction writes, whose trigger updates cannot see a goal
+    // that is not committed (or not active) yet, so the progress computed next includes them
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goals"))
+    @Query(value = "LOCK TABLE goals IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForUpdate();
+    
+    // One-time contribution history of a new or reactivated goal; afterwards only deltas are applied
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goal_contributions"))
+    @Query(value = "DELETE FROM goal_contributions WHERE goal_id = :id", nativeQuery = true)
+    int deleteContributions(@Param("id") Long id);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goal_contributions"))
+    @Query(value = "INSERT INTO goal_contributions (goal_id, month_year, amount) " +
+                   "SELECT g.id, TO_CHAR(t.transaction_date, 'YYYY-MM'), SUM(t.amount) " +
+                   "FROM goals g " +
+                   "JOIN transactions t ON t.category_id = g.category_id " +
+                   "AND (g.person_id IS NULL OR t.person_id = g.person_id) " +
+                   "WHERE g.id = :id AND t.transaction_type = 'EXPENSE' " +
+                   "GROUP BY g.id, TO_CHAR(t.transaction_date, 'YYYY-MM')",
+           nativeQuery = true)
+    int insertContributions(@Param("id") Long id);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goals"))
+    @Query(value = "UPDATE goals SET current_amount = COALESCE((" +
+                   "SELECT SUM(c.amount) FROM goal_contributions c WHERE c.goal_id = :id), 0) " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int initializeCurrent(@Param("id") Long id);
+    
+    // Re-derives ACTIVE/COMPLETED after the target or current amount changed; cancelled goals are skipped
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goals"))
+    @Query(value = "UPDATE goals SET " +
+                   "status = CASE WHEN current_amount >= target_amount THEN 'COMPLETED' ELSE 'ACTIVE' END, " +
+                   "completed_at = CASE " +
+                   "WHEN current_amount < target_amount THEN NULL " +
+                   "WHEN status = 'COMPLETED' THEN completed_at " +
+                   "ELSE CURRENT_TIMESTAMP END " +
+                   "WHERE id = :id AND status <> 'CANCELLED'",
+           nativeQuery = true)
+    int refreshStatus(@Param("id") Long id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goals"))
+    @Query(value = "UPDATE goals SET status = :status, completed_at = NULL WHERE id = :id", nativeQuery = true)
+    int setStatus(@Param("id") Long id, @Param("status") String status);
+}
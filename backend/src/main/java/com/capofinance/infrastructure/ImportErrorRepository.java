@@ -0,0 +1,25 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.ImportErrorEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportErrorRepository extends JpaRepository<ImportErrorEntity, Long> {
+    
+    // Paginated rejected rows in file order
+    Page<ImportErrorEntity> findByImportIdOrderByLineNumber(Long importId, Pageable pageable);
+    
+    // Rejected rows deduplicated by reason: (reason, count, first line, last line)
+    @Query("SELECT e.reasonCode, COUNT(e), MIN(e.lineNumber), MAX(e.lineNumber) FROM ImportErrorEntity e " +
+           "WHERE e.importId = :importId " +
+           "GROUP BY e.reasonCode " +
+           "ORDER BY COUNT(e) DESC")
+    List<Object[]> countByReason(@Param("importId") Long importId);
+}
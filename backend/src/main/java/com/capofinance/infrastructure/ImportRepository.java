@@ -8,14 +8,17 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ImportRepository extends JpaRepository<ImportEntity, Long> {
     
     // Duplicate detection
-    Optional<ImportEntity> findByFileHash(String fileHash);
     boolean existsByFileHash(String fileHash);
+    boolean existsByFileHashAndStatusNot(String fileHash, ImportEntity.ImportStatus status);
+    
+    // Concurrent import guard: transaction-scoped Postgres advisory lock keyed on the file hash
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryLockFileHash(@Param("lockKey") long lockKey);
     
     // By type
     List<ImportEntity> findByImportType(ImportEntity.ImportType importType);
@@ -0,0 +1,14 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.IncomeDistributionRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface IncomeDistributionRuleRepository extends JpaRepository<IncomeDistributionRuleEntity, Long> {
+    
+    // Active rules (household-wide and person-specific)
+    List<IncomeDistributionRuleEntity> findByIsActiveTrue();
+}
@@ -0,0 +1,19 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.LedgerVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerVersionRepository extends JpaRepository<LedgerVersionEntity, Integer> {
+    
+    // Row-locked increment, visible to other instances only once the writing transaction commits
+    @Modifying
+    @Query("UPDATE LedgerVersionEntity l SET l.version = l.version + 1, l.updatedAt = LOCAL DATETIME WHERE l.id = 1")
+    int increment();
+    
+    @Query("SELECT l.version FROM LedgerVersionEntity l WHERE l.id = 1")
+    Long getVersion();
+}
@@ -0,0 +1,46 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.MerchantCategoryMemoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface MerchantCategoryMemoryRepository extends JpaRepository<MerchantCategoryMemoryEntity, String> {
+    
+    // Incremental sync of entries changed by other instances
+    List<MerchantCategoryMemoryEntity> findByChangeTxidGreaterThanEqual(long txid);
+    
+    // Oldest transaction still running; every write below it is committed and visible
+    @Query(value = "SELECT txid_snapshot_xmin(txid_current_snapshot())", nativeQuery = true)
+    long getSnapshotXmin();
+    
+    // Learn a correction: same category again raises confidence, a different one replaces it
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "merchant_category_memory"))
+    @Transactional
+    @Query(value = "INSERT INTO merchant_category_memory (merchant_key, category_id, subcategory_id, confidence) " +
+                   "VALUES (:merchantKey, :categoryId, CAST(:subcategoryId AS INTEGER), 1) " +
+                   "ON CONFLICT (merchant_key) DO UPDATE SET " +
+                   "confidence = CASE WHEN merchant_category_memory.category_id = EXCLUDED.category_id " +
+                   "AND merchant_category_memory.subcategory_id IS NOT DISTINCT FROM EXCLUDED.subcategory_id " +
+                   "THEN merchant_category_memory.confidence + 1 ELSE 1 END, " +
+                   "category_id = EXCLUDED.category_id, " +
+                   "subcategory_id = EXCLUDED.subcategory_id, " +
+                   "updated_at = CURRENT_TIMESTAMP, " +
+                   "change_txid = txid_current()",
+           nativeQuery = true)
+    void upsert(
+        @Param("merchantKey") String merchantKey,
+        @Param("categoryId") Long categoryId,
+        @Param("subcategoryId") Long subcategoryId
+    );
+}
@@ -0,0 +1,34 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.MerchantEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface MerchantRepository extends JpaRepository<MerchantEntity, Long> {
+    
+    // Interning lookup
+    @Query("SELECT m.id FROM MerchantEntity m WHERE m.merchantKey = :merchantKey")
+    Optional<Long> findIdByMerchantKey(@Param("merchantKey") String merchantKey);
+    
+    // Creates the merchant if no import got there first. Commits on its own so the id
+    // stays valid for other imports even if the current import rolls back
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "merchants"))
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO merchants (merchant_key, display_name) " +
+                   "VALUES (:merchantKey, :displayName) " +
+                   "ON CONFLICT (merchant_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("merchantKey") String merchantKey, @Param("displayName") String displayName);
+}
@@ -0,0 +1,44 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.OutboxEventEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+    
+    // Enqueue inside the caller's transaction; duplicates are ignored
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_events"))
+    @Query(value = "INSERT INTO outbox_events (event_type, aggregate_id) VALUES (:eventType, :aggregateId) " +
+                   "ON CONFLICT (event_type, aggregate_id) DO NOTHING",
+           nativeQuery = true)
+    int enqueue(@Param("eventType") String eventType, @Param("aggregateId") Long aggregateId);
+    
+    // Claim the oldest due event; rows claimed by other instances are skipped, not waited on
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at, id " +
+                   "LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<OutboxEventEntity> claimNextDue(@Param("now") LocalDateTime now);
+    
+    // Housekeeping of processed events
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_events"))
+    @Query(value = "DELETE FROM outbox_events WHERE status = 'DONE' AND processed_at < :before", nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+    
+    long countByStatus(OutboxEventEntity.Status status);
+}
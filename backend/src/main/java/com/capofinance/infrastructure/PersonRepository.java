@@ -1,7 +1,10 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.PersonEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,9 +15,11 @@ public interface PersonRepository extends JpaRepository<PersonEntity, Long> {
     
     // Active people
     List<PersonEntity> findByIsActiveTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PersonEntity> findByIsActiveTrueOrderByName();
     
     // Search
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PersonEntity> findByNameIgnoreCase(String name);
     Optional<PersonEntity> findByEmail(String email);
     List<PersonEntity> findByNameContainingIgnoreCase(String name);
@@ -1,7 +1,10 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.SubcategoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +17,7 @@ public interface SubcategoryRepository extends JpaRepository<SubcategoryEntity,
     
     // By category
     List<SubcategoryEntity> findByCategoryId(Long categoryId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SubcategoryEntity> findByCategoryIdOrderBySortOrder(Long categoryId);
     List<SubcategoryEntity> findByCategoryIdAndIsActiveTrue(Long categoryId);
     
@@ -36,4 +40,8 @@ public interface SubcategoryRepository extends JpaRepository<SubcategoryEntity,
            "WHERE s.category.type = :categoryType AND s.isActive = true " +
            "ORDER BY s.category.sortOrder, s.sortOrder")
     List<SubcategoryEntity> findByCategoryType(@Param("categoryType") String categoryType);
+    
+    // Change detection for cached reference data
+    @Query("SELECT COUNT(x), MAX(x.updatedAt) FROM SubcategoryEntity x")
+    List<Object[]> getChangeMarker();
 }
@@ -1,16 +1,24 @@
 package com.capofinance.infrastructure;
 
 import com.capofinance.domain.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long> {
@@ -48,6 +56,27 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
         LocalDateTime end
     );
     
+    // Duplicate lookup: fingerprints (date, description, amount) already stored in a date window
+    @Query("SELECT t.transactionDate, t.description, t.amount FROM TransactionEntity t " +
+           "WHERE t.sourceType = 'EXTRATO' " +
+           "AND t.accountId = :accountId " +
+           "AND t.transactionDate BETWEEN :start AND :end")
+    List<Object[]> findExtratoFingerprints(
+        @Param("accountId") Long accountId,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    @Query("SELECT t.transactionDate, t.description, t.amount FROM TransactionEntity t " +
+           "WHERE t.sourceType = 'FATURA' " +
+           "AND t.creditCardId = :creditCardId " +
+           "AND t.transactionDate BETWEEN :start AND :end")
+    List<Object[]> findFaturaFingerprints(
+        @Param("creditCardId") Long creditCardId,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
     // Uncategorized transactions
     @Query("SELECT t FROM TransactionEntity t WHERE t.categoryId IS NULL ORDER BY t.transactionDate DESC")
     List<TransactionEntity> findUncategorizedTransactions();
@@ -55,6 +84,52 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
     @Query("SELECT COUNT(t) FROM TransactionEntity t WHERE t.categoryId IS NULL")
     Long countUncategorizedTransactions();
     
+    // Bulk categorization: one set-based UPDATE per request
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET category_id = :categoryId, subcategory_id = CAST(:subcategoryId AS INTEGER) " +
+                   "WHERE id IN (:ids) " +
+                   "AND (:onlyUncategorized = FALSE OR category_id IS NULL)",
+           nativeQuery = true)
+    int updateCategoryByIds(
+        @Param("ids") List<Long> ids,
+        @Param("onlyUncategorized") boolean onlyUncategorized,
+        @Param("categoryId") Long categoryId,
+        @Param("subcategoryId") Long subcategoryId
+    );
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET category_id = :categoryId, subcategory_id = CAST(:subcategoryId AS INTEGER) " +
+                   "WHERE LOWER(description) LIKE :descriptionPattern " +
+                   "AND (:onlyUncategorized = FALSE OR category_id IS NULL)",
+           nativeQuery = true)
+    int updateCategoryByDescription(
+        @Param("descriptionPattern") String descriptionPattern,
+        @Param("onlyUncategorized") boolean onlyUncategorized,
+        @Param("categoryId") Long categoryId,
+        @Param("subcategoryId") Long subcategoryId
+    );
+    
+    // Rows of one merchant; rows not linked to a merchant yet fall back to the key tokens
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET category_id = :categoryId, subcategory_id = CAST(:subcategoryId AS INTEGER) " +
+                   "WHERE (merchant_id = CAST(:merchantId AS INTEGER) " +
+                   "     OR (merchant_id IS NULL AND LOWER(description) LIKE :descriptionPattern)) " +
+                   "AND (:onlyUncategorized = FALSE OR category_id IS NULL)",
+           nativeQuery = true)
+    int updateCategoryByMerchant(
+        @Param("merchantId") Long merchantId,
+        @Param("descriptionPattern") String descriptionPattern,
+        @Param("onlyUncategorized") boolean onlyUncategorized,
+        @Param("categoryId") Long categoryId,
+        @Param("subcategoryId") Long subcategoryId
+    );
+    
     // Search
     @Query("SELECT t FROM TransactionEntity t WHERE " +
            "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -67,7 +142,7 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
            "COUNT(t), " +
            "SUM(t.amount) " +
            "FROM TransactionEntity t " +
-           "WHERE t.transactionDate BETWEEN :start AND :end " +
+           "WHERE t.transactionDate >= :start AND t.transactionDate < :end " +
            "GROUP BY FUNCTION('DATE_TRUNC', 'month', t.transactionDate), t.transactionType " +
            "ORDER BY month DESC")
     List<Object[]> getMonthlySummary(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -77,7 +152,7 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
            "FROM TransactionEntity t " +
            "WHERE t.category IS NOT NULL " +
            "AND t.transactionType = 'EXPENSE' " +
-           "AND t.transactionDate BETWEEN :start AND :end " +
+           "AND t.transactionDate >= :start AND t.transactionDate < :end " +
            "GROUP BY t.category.id, t.category.name " +
            "ORDER BY SUM(t.amount) DESC")
     List<Object[]> getSpendingByCategory(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -88,7 +163,7 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
            "WHERE t.category IS NOT NULL " +
            "AND t.subcategory IS NOT NULL " +
            "AND t.transactionType = 'EXPENSE' " +
-           "AND t.transactionDate BETWEEN :start AND :end " +
+           "AND t.transactionDate >= :start AND t.transactionDate < :end " +
            "GROUP BY t.category.id, t.category.name, t.subcategory.id, t.subcategory.name " +
            "ORDER BY SUM(t.amount) DESC")
     List<Object[]> getSpendingBySubcategory(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -98,7 +173,7 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
            "FROM TransactionEntity t " +
            "WHERE t.person IS NOT NULL " +
            "AND t.transactionType = 'EXPENSE' " +
-           "AND t.transactionDate BETWEEN :start AND :end " +
+           "AND t.transactionDate >= :start AND t.transactionDate < :end " +
            "GROUP BY t.person.id, t.person.name " +
            "ORDER BY SUM(t.amount) DESC")
     List<Object[]> getSpendingByPerson(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -106,10 +181,17 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
     // Top expenses
     @Query("SELECT t FROM TransactionEntity t " +
            "WHERE t.transactionType = 'EXPENSE' " +
-           "AND t.transactionDate BETWEEN :start AND :end " +
+           "AND t.transactionDate >= :start AND t.transactionDate < :end " +
            "ORDER BY t.amount DESC")
     List<TransactionEntity> getTopExpenses(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
     
+    // Forward-only read of the expenses of a period, for aggregates computed while streaming
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.amount, t.categoryId, t.personId FROM TransactionEntity t " +
+           "WHERE t.transactionType = 'EXPENSE' " +
+           "AND t.transactionDate >= :start AND t.transactionDate < :end")
+    Stream<Object[]> streamExpenses(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
     // Recent transactions with full details
     @Query("SELECT t FROM TransactionEntity t " +
            "LEFT JOIN FETCH t.category " +
@@ -121,7 +203,7 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
     // Total income/expense
     @Query("SELECT SUM(t.amount) FROM TransactionEntity t " +
            "WHERE t.transactionType = :type " +
-           "AND t.transactionDate BETWEEN :start AND :end")
+           "AND t.transactionDate >= :start AND t.transactionDate < :end")
     BigDecimal getTotalByType(
         @Param("type") TransactionEntity.TransactionType type,
         @Param("start") LocalDateTime start,
@@ -138,11 +220,364 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
            "ORDER BY AVG(t.amount) DESC")
     List<Object[]> getAverageSpendingByCategory(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
     
-    // Recurring transactions detection (same description, similar amounts)
-    @Query("SELECT t.description, COUNT(t), AVG(t.amount), MIN(t.transactionDate), MAX(t.transactionDate) " +
+    // Recurring transactions detection (same merchant, similar amounts); rows without a
+    // merchant are grouped by description
+    @Query("SELECT COALESCE(m.displayName, t.description), COUNT(t), AVG(t.amount), MIN(t.transactionDate), MAX(t.transactionDate) " +
            "FROM TransactionEntity t " +
-           "GROUP BY t.description " +
+           "LEFT JOIN t.merchant m " +
+           "GROUP BY t.merchantId, COALESCE(m.displayName, t.description) " +
            "HAVING COUNT(t) >= :minOccurrences " +
            "ORDER BY COUNT(t) DESC")
     List<Object[]> findPotentialRecurringTransactions(@Param("minOccurrences") Long minOccurrences);
+    
+    // Import rollback: deletes one chunk per call, each in its own transaction,
+    // so the idx_transactions_source index drives the delete and locks stay short
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "DELETE FROM transactions WHERE id IN (" +
+                   "SELECT id FROM transactions " +
+                   "WHERE source_type = :sourceType AND import_id = :importId " +
+                   "LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteImportChunk(
+        @Param("sourceType") String sourceType,
+        @Param("importId") Long importId,
+        @Param("batchSize") int batchSize
+    );
+    
+    // Monthly income/expense totals per person and category over the whole history,
+    // the pre-aggregated input of the income distribution engine
+    @Query(value = "SELECT CAST(date_trunc('month', transaction_date) AS DATE), person_id, category_id, transaction_type, SUM(amount) " +
+                   "FROM transactions " +
+                   "WHERE transaction_type IN ('INCOME', 'EXPENSE') " +
+                   "GROUP BY 1, 2, 3, 4",
+           nativeQuery = true)
+    List<Object[]> getMonthlyTotalsByPersonAndCategory();
+    
+    // Balance chain of one account in a single ordered pass: rows whose balance_after differs
+    // from the previous balance plus the signed amount (missing rows in between, or a duplicate)
+    @Query(value = "WITH ordered AS (" +
+                   "SELECT id, transaction_date, description, amount, balance_after, " +
+                   "CASE WHEN transaction_type = 'INCOME' OR transfer_direction = 'IN' THEN amount ELSE -amount END AS signed_amount, " +
+                   "LAG(id) OVER w AS prev_id, " +
+                   "LAG(transaction_date) OVER w AS prev_date, " +
+                   "LAG(description) OVER w AS prev_description, " +
+                   "LAG(amount) OVER w AS prev_amount, " +
+                   "LAG(balance_after) OVER w AS prev_balance " +
+                   "FROM transactions " +
+                   "WHERE account_id = :accountId AND balance_after IS NOT NULL " +
+                   "WINDOW w AS (ORDER BY transaction_date, id)) " +
+                   "SELECT id, transaction_date, description, signed_amount, balance_after, " +
+                   "prev_id, prev_date, prev_balance + signed_amount, " +
+                   "CASE WHEN balance_after = prev_balance AND description = prev_description AND amount = prev_amount " +
+                   "THEN 'DUPLICATE' ELSE 'GAP' END " +
+                   "FROM ordered " +
+                   "WHERE prev_balance IS NOT NULL AND balance_after <> prev_balance + signed_amount " +
+                   "ORDER BY transaction_date, id",
+           nativeQuery = true)
+    List<Object[]> findBalanceBreaks(@Param("accountId") Long accountId);
+    
+    long countByAccountIdAndBalanceAfterIsNotNull(Long accountId);
+    
+    // Closing balance of each day with statement rows
+    @Query(value = "SELECT DISTINCT ON (CAST(transaction_date AS DATE)) CAST(transaction_date AS DATE), balance_after " +
+                   "FROM transactions " +
+                   "WHERE account_id = :accountId AND balance_after IS NOT NULL " +
+                   "AND transaction_date >= :start AND transaction_date <= :end " +
+                   "ORDER BY CAST(transaction_date AS DATE), transaction_date DESC, id DESC",
+           nativeQuery = true)
+    List<Object[]> getDailyClosingBalances(
+        @Param("accountId") Long accountId,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    // Serializes transfer matching across requests, outbox handlers and instances until the
+    // caller's transaction ends; the matcher's next statement then sees pairs committed meanwhile
+    @Query(value = "SELECT TRUE FROM pg_advisory_xact_lock(hashtext('reconcile_transfers'))", nativeQuery = true)
+    boolean lockTransferReconciliation();
+    
+    // Transfer matcher: pairs unmatched expenses and incomes of the same amount within
+    // :windowDays of each other on a different source/account/card, one-to-one by closest
+    // date, and marks both legs TRANSFER. A card (FATURA) is only ever the receiving leg of
+    // a bill payment, and pairs the user undid are never proposed again. Only pairs involving
+    // the given import are considered; a NULL importId reconciles the whole ledger.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "WITH new_rows AS (" +
+                   "SELECT id, amount, transaction_date, transaction_type, source_type, account_id, credit_card_id " +
+                   "FROM transactions " +
+                   "WHERE transaction_type IN ('INCOME', 'EXPENSE') " +
+                   "AND (source_type <> 'FATURA' OR transaction_type = 'INCOME') " +
+                   "AND (CAST(:importId AS INTEGER) IS NULL OR (source_type = :sourceType AND import_id = :importId))), " +
+                   "bounds AS (" +
+                   "SELECT MIN(transaction_date) - make_interval(days => :windowDays) AS lo, " +
+                   "MAX(transaction_date) + make_interval(days => :windowDays) AS hi " +
+                   "FROM new_rows), " +
+                   "pairs AS (" +
+                   "SELECT DISTINCT " +
+                   "CASE WHEN n.transaction_type = 'EXPENSE' THEN n.id ELSE c.id END AS out_id, " +
+                   "CASE WHEN n.transaction_type = 'EXPENSE' THEN c.id ELSE n.id END AS in_id, " +
+                   "ABS(EXTRACT(EPOCH FROM (n.transaction_date - c.transaction_date))) AS distance " +
+                   "FROM new_rows n " +
+                   "CROSS JOIN bounds b " +
+                   "JOIN transactions c ON c.amount = n.amount " +
+                   "AND c.transaction_type = CASE WHEN n.transaction_type = 'EXPENSE' THEN 'INCOME' ELSE 'EXPENSE' END " +
+                   "AND (c.source_type <> 'FATURA' OR c.transaction_type = 'INCOME') " +
+                   "AND c.transaction_date BETWEEN b.lo AND b.hi " +
+                   "AND c.transaction_date BETWEEN n.transaction_date - make_interval(days => :windowDays) " +
+                   "AND n.transaction_date + make_interval(days => :windowDays) " +
+                   "AND (c.source_type <> n.source_type " +
+                   "OR c.account_id IS DISTINCT FROM n.account_id " +
+                   "OR c.credit_card_id IS DISTINCT FROM n.credit_card_id)), " +
+                   "ranked AS (" +
+                   "SELECT out_id, in_id, " +
+                   "ROW_NUMBER() OVER (PARTITION BY out_id ORDER BY distance, in_id) AS out_rank, " +
+                   "ROW_NUMBER() OVER (PARTITION BY in_id ORDER BY distance, out_id) AS in_rank " +
+                   "FROM pairs p " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM transfer_pair_rejections r WHERE r.out_id = p.out_id AND r.in_id = p.in_id)), " +
+                   "matched AS (SELECT out_id, in_id FROM ranked WHERE out_rank = 1 AND in_rank = 1) " +
+                   "UPDATE transactions t SET " +
+                   "transaction_type = 'TRANSFER', " +
+                   "transfer_direction = CASE WHEN t.id = m.out_id THEN 'OUT' ELSE 'IN' END, " +
+                   "transfer_pair_id = CASE WHEN t.id = m.out_id THEN m.in_id ELSE m.out_id END " +
+                   "FROM matched m " +
+                   "WHERE t.id IN (m.out_id, m.in_id)",
+           nativeQuery = true)
+    int reconcileTransfers(
+        @Param("sourceType") String sourceType,
+        @Param("importId") Long importId,
+        @Param("windowDays") int windowDays
+    );
+    
+    // Restores the other leg of every transfer pair involving the given import (before it is reverted)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET " +
+                   "transaction_type = CASE transfer_direction WHEN 'IN' THEN 'INCOME' ELSE 'EXPENSE' END, " +
+                   "transfer_direction = NULL, transfer_pair_id = NULL " +
+                   "WHERE transaction_type = 'TRANSFER' AND transfer_pair_id IN (" +
+                   "SELECT id FROM transactions WHERE source_type = :sourceType AND import_id = :importId)",
+           nativeQuery = true)
+    int unpairTransfersOfImport(@Param("sourceType") String sourceType, @Param("importId") Long importId);
+    
+    // Remembers the pair containing :id as undone so reconcileTransfers skips it; call before unpairTransfer
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transfer_pair_rejections"))
+    @Transactional
+    @Query(value = "INSERT INTO transfer_pair_rejections (out_id, in_id) " +
+                   "SELECT id, transfer_pair_id FROM transactions " +
+                   "WHERE transaction_type = 'TRANSFER' AND transfer_direction = 'OUT' " +
+                   "AND (id = :id OR transfer_pair_id = :id) " +
+                   "ON CONFLICT (out_id, in_id) DO NOTHING",
+           nativeQuery = true)
+    int rejectTransferPair(@Param("id") Long id);
+    
+    // Undone pairs that involve rows of an import, before the import is reverted
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transfer_pair_rejections"))
+    @Transactional
+    @Query(value = "DELETE FROM transfer_pair_rejections r " +
+                   "USING transactions t " +
+                   "WHERE t.source_type = :sourceType AND t.import_id = :importId " +
+                   "AND (r.out_id = t.id OR r.in_id = t.id)",
+           nativeQuery = true)
+    int deleteTransferRejectionsForImport(@Param("sourceType") String sourceType, @Param("importId") Long importId);
+    
+    // Undoes one transfer pair, restoring both legs to INCOME/EXPENSE
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET " +
+                   "transaction_type = CASE transfer_direction WHEN 'IN' THEN 'INCOME' ELSE 'EXPENSE' END, " +
+                   "transfer_direction = NULL, transfer_pair_id = NULL " +
+                   "WHERE transaction_type = 'TRANSFER' AND (id = :id OR transfer_pair_id = :id)",
+           nativeQuery = true)
+    int unpairTransfer(@Param("id") Long id);
+    
+    // Transfer pairs listed by their outgoing leg
+    Page<TransactionEntity> findByTransactionTypeAndTransferDirection(
+        TransactionEntity.TransactionType transactionType,
+        TransactionEntity.TransferDirection transferDirection,
+        Pageable pageable
+    );
+    
+    // Near-duplicate candidates of an import's rows, blocked by same amount and type within
+    // :windowDays; same-source pairs must also share the account/card. Returns
+    // (id, description, candidate id, candidate description); descriptions are compared in Java.
+    @Query(value = "SELECT n.id, n.description, c.id, c.description " +
+                   "FROM transactions n " +
+                   "JOIN transactions c ON c.amount = n.amount " +
+                   "AND c.transaction_type = n.transaction_type " +
+                   "AND c.transaction_date BETWEEN n.transaction_date - make_interval(days => :windowDays) " +
+                   "AND n.transaction_date + make_interval(days => :windowDays) " +
+                   "AND c.import_id IS DISTINCT FROM n.import_id " +
+                   "AND (c.source_type <> n.source_type " +
+                   "OR c.account_id = n.account_id " +
+                   "OR c.credit_card_id = n.credit_card_id) " +
+                   "WHERE n.source_type = :sourceType AND n.import_id = :importId " +
+                   "AND n.transaction_type <> 'TRANSFER'",
+           nativeQuery = true)
+    List<Object[]> findDuplicateCandidates(
+        @Param("sourceType") String sourceType,
+        @Param("importId") Long importId,
+        @Param("windowDays") int windowDays
+    );
+    
+    // Bulk tagging; :tags is a text[] literal of normalized tags, e.g. {trip-2026,work}.
+    // Arrays are kept sorted and free of repeats; rows that already have every tag are skipped.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET tags = ARRAY(" +
+                   "SELECT DISTINCT tag FROM unnest(COALESCE(tags, '{}') || CAST(:tags AS TEXT[])) AS tag ORDER BY tag) " +
+                   "WHERE id IN (:ids) " +
+                   "AND NOT (COALESCE(tags, '{}') @> CAST(:tags AS TEXT[]))",
+           nativeQuery = true)
+    int addTags(@Param("ids") List<Long> ids, @Param("tags") String tags);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET tags = ARRAY(" +
+                   "SELECT tag FROM unnest(tags) AS tag WHERE tag <> ALL(CAST(:tags AS TEXT[])) ORDER BY tag) " +
+                   "WHERE id IN (:ids) " +
+                   "AND tags && CAST(:tags AS TEXT[])",
+           nativeQuery = true)
+    int removeTags(@Param("ids") List<Long> ids, @Param("tags") String tags);
+    
+    // Transactions carrying every given tag (idx_transactions_tags)
+    @Query(value = "SELECT * FROM transactions " +
+                   "WHERE tags @> CAST(:tags AS TEXT[]) " +
+                   "ORDER BY transaction_date DESC, id DESC",
+           countQuery = "SELECT COUNT(*) FROM transactions WHERE tags @> CAST(:tags AS TEXT[])",
+           nativeQuery = true)
+    Page<TransactionEntity> findByAllTags(@Param("tags") String tags, Pageable pageable);
+    
+    // Count and total per transaction type of tagged transactions; NULL bounds = whole history
+    @Query(value = "SELECT transaction_type, COUNT(*), SUM(amount) " +
+                   "FROM transactions " +
+                   "WHERE tags @> CAST(:tags AS TEXT[]) " +
+                   "AND (CAST(:start AS TIMESTAMP) IS NULL OR transaction_date >= :start) " +
+                   "AND (CAST(:end AS TIMESTAMP) IS NULL OR transaction_date < :end) " +
+                   "GROUP BY transaction_type",
+           nativeQuery = true)
+    List<Object[]> getTotalsByTags(
+        @Param("tags") String tags,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    // Expenses of tagged transactions by category, largest first
+    @Query(value = "SELECT COALESCE(c.name, 'Uncategorized'), SUM(t.amount), COUNT(*) " +
+                   "FROM transactions t " +
+                   "LEFT JOIN categories c ON c.id = t.category_id " +
+                   "WHERE t.tags @> CAST(:tags AS TEXT[]) " +
+                   "AND t.transaction_type = 'EXPENSE' " +
+                   "AND (CAST(:start AS TIMESTAMP) IS NULL OR t.transaction_date >= :start) " +
+                   "AND (CAST(:end AS TIMESTAMP) IS NULL OR t.transaction_date < :end) " +
+                   "GROUP BY c.name " +
+                   "ORDER BY SUM(t.amount) DESC",
+           nativeQuery = true)
+    List<Object[]> getSpendingByCategoryForTags(
+        @Param("tags") String tags,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    // Post-import recurring detection: flags rows of the import whose merchant
+    // already shows up in at least :minMonths distinct months. Rows without a merchant
+    // compare descriptions among the other unlinked rows; the CASE keeps the merchant
+    // branch on idx_transactions_merchant_date.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions t SET is_recurring = TRUE " +
+                   "WHERE t.source_type = :sourceType AND t.import_id = :importId " +
+                   "AND t.is_recurring = FALSE " +
+                   "AND CASE WHEN t.merchant_id IS NOT NULL " +
+                   "THEN (SELECT COUNT(DISTINCT date_trunc('month', o.transaction_date)) " +
+                   "      FROM transactions o WHERE o.merchant_id = t.merchant_id) " +
+                   "ELSE (SELECT COUNT(DISTINCT date_trunc('month', o.transaction_date)) " +
+                   "      FROM transactions o WHERE o.merchant_id IS NULL AND o.description = t.description) " +
+                   "END >= :minMonths",
+           nativeQuery = true)
+    int markRecurringForImport(
+        @Param("sourceType") String sourceType,
+        @Param("importId") Long importId,
+        @Param("minMonths") int minMonths
+    );
+    
+    // Expenses grouped by merchant id, largest first; names are joined for the top rows only
+    @Query(value = "SELECT m.id, m.display_name, s.total, s.cnt " +
+                   "FROM (SELECT merchant_id, SUM(amount) AS total, COUNT(*) AS cnt " +
+                   "      FROM transactions " +
+                   "      WHERE transaction_type = 'EXPENSE' AND merchant_id IS NOT NULL " +
+                   "      AND transaction_date >= :start AND transaction_date < :end " +
+                   "      GROUP BY merchant_id " +
+                   "      ORDER BY SUM(amount) DESC " +
+                   "      LIMIT :limit) s " +
+                   "JOIN merchants m ON m.id = s.merchant_id " +
+                   "ORDER BY s.total DESC",
+           nativeQuery = true)
+    List<Object[]> getTopMerchants(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("limit") int limit
+    );
+    
+    // Count and total per month and transaction type of one merchant
+    @Query(value = "SELECT date_trunc('month', transaction_date), transaction_type, COUNT(*), SUM(amount) " +
+                   "FROM transactions " +
+                   "WHERE merchant_id = :merchantId " +
+                   "AND transaction_date >= :start AND transaction_date < :end " +
+                   "GROUP BY 1, 2 " +
+                   "ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> getMerchantMonthlyTrend(
+        @Param("merchantId") Long merchantId,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+    
+    // Cash-flow calendar: trigger-maintained daily totals (V17), one range read on the day primary key
+    @Query(value = "SELECT day, person_id, source_type, source_id, income, expense, transaction_count " +
+                   "FROM daily_cash_flow " +
+                   "WHERE day BETWEEN :start AND :end " +
+                   "AND transaction_count <> 0 " +
+                   "AND (CAST(:personId AS INTEGER) IS NULL OR person_id = :personId) " +
+                   "AND (CAST(:sourceType AS VARCHAR) IS NULL OR (source_type = :sourceType AND source_id = :sourceId))",
+           nativeQuery = true)
+    List<Object[]> getDailyCashFlow(
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
+        @Param("personId") Long personId,
+        @Param("sourceType") String sourceType,
+        @Param("sourceId") Long sourceId
+    );
+    
+    // Merchant backfill: next batch of rows not yet linked to a merchant, keyset-paged by id
+    @Query(value = "SELECT id, description FROM transactions " +
+                   "WHERE merchant_id IS NULL AND id > :afterId " +
+                   "ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findWithoutMerchant(@Param("afterId") Long afterId, @Param("limit") int limit);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Transactional
+    @Query(value = "UPDATE transactions SET merchant_id = :merchantId WHERE id IN (:ids)",
+           nativeQuery = true)
+    int assignMerchant(@Param("merchantId") Long merchantId, @Param("ids") Collection<Long> ids);
+    
+    // Monthly partitioning (opt-in V8_1 migration)
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('transactions'))",
+           nativeQuery = true)
+    boolean isPartitioned();
+    
+    @Query(value = "SELECT ensure_transactions_partition(CAST(:day AS DATE))", nativeQuery = true)
+    String ensurePartition(@Param("day") LocalDate day);
 }
@@ -0,0 +1,93 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.balance.AccountBalanceService;
+import com.capofinance.application.balance.BalanceBreak;
+import com.capofinance.application.balance.BalanceVerification;
+import com.capofinance.infrastructure.AccountRepository;
+import com.capofinance.presentation.dto.BalanceBreakDto;
+import com.capofinance.presentation.dto.BalanceVerificationDto;
+import com.capofinance.presentation.dto.DailyBalanceDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for account balances reconstructed from bank statements
+ */
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class AccountBalanceController {
+
+    private final AccountBalanceService accountBalanceService;
+    private final AccountRepository accountRepository;
+
+    /**
+     * GET /api/accounts/{id}/balance/verification
+     * Check that every statement balance follows from the previous one; lists gaps and duplicates
+     */
+    @GetMapping("/{id}/balance/verification")
+    public ResponseEntity<BalanceVerificationDto> verify(@PathVariable Long id) {
+        return accountBalanceService.verify(id)
+                .map(verification -> ResponseEntity.ok(toDto(verification)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/accounts/{id}/balance/daily?start=2025-01-01&end=2025-12-31&points=365
+     * Closing balance per day for charting, downsampled to at most the given number of points
+     */
+    @GetMapping("/{id}/balance/daily")
+    public ResponseEntity<List<DailyBalanceDto>> getDailyBalances(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(defaultValue = "365") int points) {
+        try {
+            return accountBalanceService.getDailyBalances(id, start.atStartOfDay(), end.atTime(23, 59, 59), points)
+                    .map(balances -> ResponseEntity.ok(balances.stream()
+                            .map(balance -> DailyBalanceDto.builder()
+                                    .date(balance.getDate())
+                                    .balance(balance.getBalance())
+                                    .build())
+                            .collect(Collectors.toList())))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private BalanceVerificationDto toDto(BalanceVerification verification) {
+        return BalanceVerificationDto.builder()
+                .accountId(verification.getAccountId())
+                .accountName(accountRepository.findById(verification.getAccountId()).map(a -> a.getName()).orElse(null))
+                .currentBalance(verification.getCurrentBalance())
+                .checkedRows(verification.getCheckedRows())
+                .consistent(verification.isConsistent())
+                .breaks(verification.getBreaks().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private BalanceBreakDto toDto(BalanceBreak balanceBreak) {
+        return BalanceBreakDto.builder()
+                .transactionId(balanceBreak.getTransactionId())
+                .transactionDate(balanceBreak.getTransactionDate())
+                .description(balanceBreak.getDescription())
+                .signedAmount(balanceBreak.getSignedAmount())
+                .balanceAfter(balanceBreak.getBalanceAfter())
+                .expectedBalance(balanceBreak.getExpectedBalance())
+                .difference(balanceBreak.getDifference())
+                .previousTransactionId(balanceBreak.getPreviousTransactionId())
+                .previousTransactionDate(balanceBreak.getPreviousTransactionDate())
+                .kind(balanceBreak.getKind().name())
+                .build();
+    }
+}
@@ -0,0 +1,376 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.analytics.AmountDistribution;
+import com.capofinance.application.analytics.AnalyticsService;
+import com.capofinance.application.analytics.CalendarSeries;
+import com.capofinance.application.analytics.ExpenseDistribution;
+import com.capofinance.application.analytics.ExpenseDistributionService;
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.analytics.MerchantSpending;
+import com.capofinance.application.analytics.MonthlySummary;
+import com.capofinance.application.analytics.SpendingBreakdown;
+import com.capofinance.application.analytics.TagSummary;
+import com.capofinance.application.analytics.TopExpense;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.AccountRepository;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.CreditCardRepository;
+import com.capofinance.infrastructure.MerchantRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import com.capofinance.presentation.dto.AmountDistributionDto;
+import com.capofinance.presentation.dto.AnalyticsSummaryDto;
+import com.capofinance.presentation.dto.CalendarSeriesDto;
+import com.capofinance.presentation.dto.CashFlowCalendarDto;
+import com.capofinance.presentation.dto.ExpenseDistributionDto;
+import com.capofinance.presentation.dto.MerchantSpendingDto;
+import com.capofinance.presentation.dto.MonthlySummaryDto;
+import com.capofinance.presentation.dto.SpendingBreakdownDto;
+import com.capofinance.presentation.dto.TagSummaryDto;
+import com.capofinance.presentation.dto.TransactionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for dashboard analytics
+ * Periods are inclusive calendar dates; results are cached until the next ledger write
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class AnalyticsController {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final AnalyticsService analyticsService;
+    private final ExpenseDistributionService expenseDistributionService;
+    private final LedgerVersionService ledgerVersionService;
+    private final PersonRepository personRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final MerchantRepository merchantRepository;
+    private final AccountRepository accountRepository;
+    private final CreditCardRepository creditCardRepository;
+
+    /**
+     * GET /api/analytics/summary?start=2025-01-01&end=2025-01-31
+     * Total income, total expense and balance of the period
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<AnalyticsSummaryDto> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        BigDecimal income = analyticsService.getTotalByType(TransactionEntity.TransactionType.INCOME, startOf(start), endBefore(end));
+        BigDecimal expense = analyticsService.getTotalByType(TransactionEntity.TransactionType.EXPENSE, startOf(start), endBefore(end));
+
+        return ResponseEntity.ok(AnalyticsSummaryDto.builder()
+                .start(start)
+                .end(end)
+                .totalIncome(income)
+                .totalExpense(expense)
+                .balance(income.subtract(expense))
+                .ledgerVersion(ledgerVersionService.current())
+                .build());
+    }
+
+    /**
+     * GET /api/analytics/monthly?start=2025-01-01&end=2025-12-31
+     * Count and total per month and transaction type
+     */
+    @GetMapping("/monthly")
+    public ResponseEntity<List<MonthlySummaryDto>> getMonthlySummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        List<MonthlySummaryDto> dtos = analyticsService.getMonthlySummary(startOf(start), endBefore(end)).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * GET /api/analytics/spending/categories?start=2025-01-01&end=2025-01-31
+     * Expenses grouped by category, largest first
+     */
+    @GetMapping("/spending/categories")
+    public ResponseEntity<List<SpendingBreakdownDto>> getSpendingByCategory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(toDtos(analyticsService.getSpendingByCategory(startOf(start), endBefore(end))));
+    }
+
+    /**
+     * GET /api/analytics/spending/subcategories?start=2025-01-01&end=2025-01-31
+     * Expenses grouped by category and subcategory, largest first
+     */
+    @GetMapping("/spending/subcategories")
+    public ResponseEntity<List<SpendingBreakdownDto>> getSpendingBySubcategory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(toDtos(analyticsService.getSpendingBySubcategory(startOf(start), endBefore(end))));
+    }
+
+    /**
+     * GET /api/analytics/spending/people?start=2025-01-01&end=2025-01-31
+     * Expenses grouped by responsible person, largest first
+     */
+    @GetMapping("/spending/people")
+    public ResponseEntity<List<SpendingBreakdownDto>> getSpendingByPerson(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(toDtos(analyticsService.getSpendingByPerson(startOf(start), endBefore(end))));
+    }
+
+    /**
+     * GET /api/analytics/top-expenses?start=2025-01-01&end=2025-01-31&limit=10
+     * Largest expenses of the period
+     */
+    @GetMapping("/top-expenses")
+    public ResponseEntity<List<TransactionDto>> getTopExpenses(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<TransactionDto> dtos = analyticsService.getTopExpenses(startOf(start), endBefore(end), limit).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * GET /api/analytics/distribution?start=2025-01-01&end=2025-12-31&top=5
+     * Largest expenses and p50/p90/p99 amounts, overall and per category and person
+     */
+    @GetMapping("/distribution")
+    public ResponseEntity<ExpenseDistributionDto> getExpenseDistribution(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(value = "top", defaultValue = "5") int top) {
+        if (top < 1 || top > 50) {
+            return ResponseEntity.badRequest().build();
+        }
+        ExpenseDistribution distribution = expenseDistributionService.getDistribution(startOf(start), endBefore(end), top);
+
+        return ResponseEntity.ok(ExpenseDistributionDto.builder()
+                .start(start)
+                .end(end)
+                .overall(toDto(distribution.getOverall()))
+                .byCategory(distribution.getByCategory().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .byPerson(distribution.getByPerson().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .ledgerVersion(ledgerVersionService.current())
+                .build());
+    }
+
+    /**
+     * GET /api/analytics/merchants/top?start=2025-01-01&end=2025-01-31&limit=10
+     * Merchants with the largest expenses of the period
+     */
+    @GetMapping("/merchants/top")
+    public ResponseEntity<List<MerchantSpendingDto>> getTopMerchants(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<MerchantSpendingDto> dtos = analyticsService.getTopMerchants(startOf(start), endBefore(end), limit).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * GET /api/analytics/merchants/{id}/trend?start=2025-01-01&end=2025-12-31
+     * Count and total per month and transaction type of one merchant
+     */
+    @GetMapping("/merchants/{id}/trend")
+    public ResponseEntity<List<MonthlySummaryDto>> getMerchantTrend(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        if (!merchantRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        List<MonthlySummaryDto> dtos = analyticsService.getMerchantTrend(id, startOf(start), endBefore(end)).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * GET /api/analytics/calendar?year=2026&personId=1&accountId=2
+     * Daily income/expense of the year per person and account/card, one bucket per day;
+     * personId and accountId/creditCardId are optional filters
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<CashFlowCalendarDto> getCashFlowCalendar(
+            @RequestParam int year,
+            @RequestParam(required = false) Long personId,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long creditCardId) {
+        if (year < 1900 || year > 9999 || (accountId != null && creditCardId != null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        String sourceType = accountId != null ? "EXTRATO" : creditCardId != null ? "FATURA" : null;
+        Long sourceId = accountId != null ? accountId : creditCardId;
+        Year calendarYear = Year.of(year);
+
+        return ResponseEntity.ok(CashFlowCalendarDto.builder()
+                .year(year)
+                .firstDay(calendarYear.atDay(1))
+                .days(calendarYear.length())
+                .series(analyticsService.getCashFlowCalendar(calendarYear, personId, sourceType, sourceId).stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .ledgerVersion(ledgerVersionService.current())
+                .build());
+    }
+
+    /**
+     * GET /api/analytics/tags?tags=trip-2026&start=2026-01-01&end=2026-12-31
+     * Income, expense and expenses by category of transactions carrying all of the tags;
+     * start/end are optional
+     */
+    @GetMapping("/tags")
+    public ResponseEntity<TagSummaryDto> getTagSummary(
+            @RequestParam("tags") List<String> tags,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        TagSummary summary;
+        try {
+            summary = analyticsService.getTagSummary(tags,
+                    start != null ? startOf(start) : null,
+                    end != null ? endBefore(end) : null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(TagSummaryDto.builder()
+                .tags(summary.getTags())
+                .start(start)
+                .end(end)
+                .count(summary.getCount())
+                .totalIncome(summary.getTotalIncome())
+                .totalExpense(summary.getTotalExpense())
+                .expensesByCategory(toDtos(summary.getExpensesByCategory()))
+                .ledgerVersion(ledgerVersionService.current())
+                .build());
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay();
+    }
+
+    // Exclusive bound: the queries compare with < so the whole last day is included,
+    // fractional seconds too
+    private static LocalDateTime endBefore(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+
+    private List<SpendingBreakdownDto> toDtos(List<SpendingBreakdown> breakdowns) {
+        return breakdowns.stream()
+                .map(breakdown -> SpendingBreakdownDto.builder()
+                        .name(breakdown.getName())
+                        .parentName(breakdown.getParentName())
+                        .total(breakdown.getTotal())
+                        .count(breakdown.getCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private MonthlySummaryDto toDto(MonthlySummary summary) {
+        return MonthlySummaryDto.builder()
+                .month(summary.getMonth().format(MONTH_FORMAT))
+                .transactionType(summary.getTransactionType())
+                .count(summary.getCount())
+                .total(summary.getTotal())
+                .build();
+    }
+
+    private AmountDistributionDto toDto(AmountDistribution distribution) {
+        return AmountDistributionDto.builder()
+                .name(distribution.getName())
+                .count(distribution.getCount())
+                .total(distribution.getTotal())
+                .p50(distribution.getP50())
+                .p90(distribution.getP90())
+                .p99(distribution.getP99())
+                .top(distribution.getTop().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private CalendarSeriesDto toDto(CalendarSeries series) {
+        boolean account = "EXTRATO".equals(series.getSourceType());
+        return CalendarSeriesDto.builder()
+                .personId(series.getPersonId())
+                .personName(personRepository.findById(series.getPersonId()).map(p -> p.getName()).orElse(null))
+                .sourceType(series.getSourceType())
+                .accountId(account ? series.getSourceId() : null)
+                .creditCardId(account ? null : series.getSourceId())
+                .sourceName(account
+                        ? accountRepository.findById(series.getSourceId()).map(a -> a.getName()).orElse(null)
+                        : creditCardRepository.findById(series.getSourceId()).map(c -> c.getName()).orElse(null))
+                .income(series.getIncome())
+                .expense(series.getExpense())
+                .counts(series.getCounts())
+                .build();
+    }
+
+    private MerchantSpendingDto toDto(MerchantSpending spending) {
+        return MerchantSpendingDto.builder()
+                .merchantId(spending.getMerchantId())
+                .name(spending.getName())
+                .total(spending.getTotal())
+                .count(spending.getCount())
+                .build();
+    }
+
+    private TransactionDto toDto(TopExpense expense) {
+        return TransactionDto.builder()
+                .id(expense.getId())
+                .sourceType(expense.getSourceType().name())
+                .importId(expense.getImportId())
+                .transactionDate(expense.getTransactionDate())
+                .description(expense.getDescription())
+                .amount(expense.getAmount())
+                .balanceAfter(expense.getBalanceAfter())
+                .installmentInfo(expense.getInstallmentInfo())
+                .cardHolder(expense.getCardHolder())
+                .transactionType(expense.getTransactionType().name())
+                .accountId(expense.getAccountId())
+                .creditCardId(expense.getCreditCardId())
+                .personId(expense.getPersonId())
+                .personName(expense.getPersonId() != null
+                        ? personRepository.findById(expense.getPersonId()).map(p -> p.getName()).orElse(null)
+                        : null)
+                .categoryId(expense.getCategoryId())
+                .categoryName(expense.getCategoryId() != null
+                        ? categoryRepository.findById(expense.getCategoryId()).map(c -> c.getName()).orElse(null)
+                        : null)
+                .subcategoryId(expense.getSubcategoryId())
+                .subcategoryName(expense.getSubcategoryId() != null
+                        ? subcategoryRepository.findById(expense.getSubcategoryId()).map(s -> s.getName()).orElse(null)
+                        : null)
+                .notes(expense.getNotes())
+                .tags(expense.getTags())
+                .build();
+    }
+}
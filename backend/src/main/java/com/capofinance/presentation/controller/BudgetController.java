@@ -0,0 +1,130 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.budget.BudgetService;
+import com.capofinance.domain.BudgetEntity;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.infrastructure.SubcategoryRepository;
+import com.capofinance.presentation.dto.BudgetDto;
+import com.capofinance.presentation.dto.BudgetRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for monthly budgets
+ * Actual amounts are kept current on every import, recategorization and revert
+ */
+@RestController
+@RequestMapping("/api/budgets")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class BudgetController {
+
+    private final BudgetService budgetService;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final PersonRepository personRepository;
+
+    /**
+     * GET /api/budgets?month=2025-01
+     * Planned vs actual for every budget of the month
+     */
+    @GetMapping
+    public ResponseEntity<List<BudgetDto>> getByMonth(@RequestParam("month") String month) {
+        try {
+            List<BudgetDto> dtos = budgetService.findByMonth(month).stream()
+                    .map(this::toDto)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(dtos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/budgets
+     * Create a budget; its actual amount starts from the expenses already in the month.
+     * 409 when a budget for the same category, subcategory, person and month already exists
+     */
+    @PostMapping
+    public ResponseEntity<BudgetDto> create(@RequestBody BudgetRequestDto request) {
+        try {
+            BudgetEntity created = budgetService.create(BudgetEntity.builder()
+                    .monthYear(request.getMonthYear())
+                    .categoryId(request.getCategoryId())
+                    .subcategoryId(request.getSubcategoryId())
+                    .personId(request.getPersonId())
+                    .plannedAmount(request.getPlannedAmount())
+                    .notes(request.getNotes())
+                    .build());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toDto(created));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * PATCH /api/budgets/{id}
+     * Update planned amount and/or notes
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<BudgetDto> update(@PathVariable Long id, @RequestBody BudgetRequestDto request) {
+        try {
+            return budgetService.update(id, request.getPlannedAmount(), request.getNotes())
+                    .map(budget -> ResponseEntity.ok(toDto(budget)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * DELETE /api/budgets/{id}
+     * Remove a budget
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        return budgetService.delete(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private BudgetDto toDto(BudgetEntity entity) {
+        BigDecimal actual = entity.getActualAmount() != null ? entity.getActualAmount() : BigDecimal.ZERO;
+        BigDecimal planned = entity.getPlannedAmount();
+
+        return BudgetDto.builder()
+                .id(entity.getId())
+                .monthYear(entity.getMonthYear())
+                .categoryId(entity.getCategoryId())
+                .categoryName(entity.getCategoryId() != null
+                        ? categoryRepository.findById(entity.getCategoryId()).map(c -> c.getName()).orElse(null)
+                        : null)
+                .subcategoryId(entity.getSubcategoryId())
+                .subcategoryName(entity.getSubcategoryId() != null
+                        ? subcategoryRepository.findById(entity.getSubcategoryId()).map(s -> s.getName()).orElse(null)
+                        : null)
+                .personId(entity.getPersonId())
+                .personName(entity.getPersonId() != null
+                        ? personRepository.findById(entity.getPersonId()).map(p -> p.getName()).orElse(null)
+                        : null)
+                .plannedAmount(planned)
+                .actualAmount(actual)
+                .remainingAmount(planned.subtract(actual))
+                .percentUsed(planned.signum() > 0
+                        ? actual.multiply(BigDecimal.valueOf(100)).divide(planned, 2, RoundingMode.HALF_UP)
+                        : null)
+                .notes(entity.getNotes())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.cache.CacheRegionSnapshot;
+import com.capofinance.application.cache.CacheStatisticsService;
+import com.capofinance.presentation.dto.CacheRegionStatisticsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for second-level cache monitoring
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * GET /api/cache/statistics
+     * Hit/miss counters for each cache region since startup
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheRegionStatisticsDto>> getStatistics() {
+        List<CacheRegionStatisticsDto> dtos = cacheStatisticsService.getRegionStatistics().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    private CacheRegionStatisticsDto toDto(CacheRegionSnapshot snapshot) {
+        long lookups = snapshot.getHits() + snapshot.getMisses();
+        return CacheRegionStatisticsDto.builder()
+                .region(snapshot.getRegion())
+                .hits(snapshot.getHits())
+                .misses(snapshot.getMisses())
+                .puts(snapshot.getPuts())
+                .hitRatio(lookups == 0 ? null : (double) snapshot.getHits() / lookups)
+                .elementsInMemory(snapshot.getElementsInMemory())
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.categorization.CategorizationRuleService;
+import com.capofinance.domain.CategorizationRuleEntity;
+import com.capofinance.presentation.dto.CategorizationRuleDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for auto-categorization rules
+ * Every change is applied to imports immediately
+ */
+@RestController
+@RequestMapping("/api/categorization-rules")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class CategorizationRuleController {
+
+    private final CategorizationRuleService categorizationRuleService;
+
+    /**
+     * GET /api/categorization-rules
+     * List all rules, highest priority first
+     */
+    @GetMapping
+    public ResponseEntity<List<CategorizationRuleDto>> getAll() {
+        List<CategorizationRuleDto> dtos = categorizationRuleService.findAll().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * POST /api/categorization-rules
+     * Create a rule; 409 when the same pattern and match type already exist
+     */
+    @PostMapping
+    public ResponseEntity<CategorizationRuleDto> create(@RequestBody CategorizationRuleDto dto) {
+        try {
+            CategorizationRuleEntity saved = categorizationRuleService.create(toEntity(dto));
+            return ResponseEntity.status(HttpStatus.CREATED).body(toDto(saved));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * PUT /api/categorization-rules/{id}
+     * Update a rule (only the fields sent are changed; clearPersonId=true removes the person
+     * override); 409 when it would duplicate another rule
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<CategorizationRuleDto> update(@PathVariable Long id, @RequestBody CategorizationRuleDto dto) {
+        try {
+            return categorizationRuleService.update(id, toEntity(dto), Boolean.TRUE.equals(dto.getClearPersonId()))
+                    .map(saved -> ResponseEntity.ok(toDto(saved)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * DELETE /api/categorization-rules/{id}
+     * Delete a rule
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        return categorizationRuleService.delete(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private CategorizationRuleEntity toEntity(CategorizationRuleDto dto) {
+        return CategorizationRuleEntity.builder()
+                .pattern(dto.getPattern())
+                .matchType(dto.getMatchType() != null
+                        ? CategorizationRuleEntity.MatchType.valueOf(dto.getMatchType().toUpperCase())
+                        : null)
+                .priority(dto.getPriority())
+                .subcategoryId(dto.getSubcategoryId())
+                .personId(dto.getPersonId())
+                .isActive(dto.getIsActive())
+                .build();
+    }
+
+    private CategorizationRuleDto toDto(CategorizationRuleEntity entity) {
+        return CategorizationRuleDto.builder()
+                .id(entity.getId())
+                .pattern(entity.getPattern())
+                .matchType(entity.getMatchType().name())
+                .priority(entity.getPriority())
+                .subcategoryId(entity.getSubcategoryId())
+                .personId(entity.getPersonId())
+                .isActive(entity.getIsActive())
+                .build();
+    }
+}
@@ -1,14 +1,19 @@
 package com.capofinance.presentation.controller;
 
+import com.capofinance.application.categorization.CategoryTree;
+import com.capofinance.application.categorization.CategoryTreeService;
 import com.capofinance.domain.CategoryEntity;
 import com.capofinance.domain.SubcategoryEntity;
 import com.capofinance.infrastructure.CategoryRepository;
 import com.capofinance.infrastructure.SubcategoryRepository;
 import com.capofinance.presentation.dto.CategoryDto;
+import com.capofinance.presentation.dto.CategoryTreeDto;
 import com.capofinance.presentation.dto.SubcategoryDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +30,7 @@ public class CategoryController {
 
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
+    private final CategoryTreeService categoryTreeService;
 
     /**
      * GET /api/categories
@@ -65,6 +71,41 @@ public class CategoryController {
         return ResponseEntity.ok(dtos);
     }
 
+    /**
+     * GET /api/categories/tree
+     * Categories with their subcategories, served from memory
+     * Carries a strong ETag; If-None-Match with the current ETag returns 304 Not Modified
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeDto>> getCategoryTree(WebRequest request) {
+        CategoryTree tree = categoryTreeService.getTree();
+
+        if (request.checkNotModified(tree.getEtag())) {
+            return null;
+        }
+
+        List<CategoryTreeDto> dtos = tree.getCategories().stream()
+                .map(node -> CategoryTreeDto.builder()
+                        .id(node.getCategory().getId())
+                        .name(node.getCategory().getName())
+                        .description(node.getCategory().getDescription())
+                        .type(node.getCategory().getType().name())
+                        .color(node.getCategory().getColor())
+                        .icon(node.getCategory().getIcon())
+                        .sortOrder(node.getCategory().getSortOrder())
+                        .isActive(node.getCategory().getIsActive())
+                        .subcategories(node.getSubcategories().stream()
+                                .map(this::toSubcategoryDto)
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok()
+                .eTag(tree.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(dtos);
+    }
+
     private CategoryDto toCategoryDto(CategoryEntity entity) {
         return CategoryDto.builder()
                 .id(entity.getId())
@@ -80,9 +121,7 @@ public class CategoryController {
                 .name(entity.getName())
                 .description(entity.getDescription())
                 .categoryId(entity.getCategoryId())
-                .categoryName(categoryRepository.findById(entity.getCategoryId())
-                        .map(CategoryEntity::getName)
-                        .orElse(null))
+                .categoryName(categoryTreeService.getTree().getCategoryNames().get(entity.getCategoryId()))
                 .build();
     }
 }
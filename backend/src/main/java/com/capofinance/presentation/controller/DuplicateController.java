@@ -0,0 +1,117 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.dedupe.DuplicateDetectionService;
+import com.capofinance.domain.DuplicateCandidateEntity;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import com.capofinance.presentation.dto.DuplicateCandidateDto;
+import com.capofinance.presentation.dto.DuplicateCandidatePageDto;
+import com.capofinance.presentation.dto.DuplicateTransactionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for reviewing near-duplicate transactions found after imports
+ */
+@RestController
+@RequestMapping("/api/duplicates")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class DuplicateController {
+
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * GET /api/duplicates?status=PENDING&page=0&size=50
+     * Candidate pairs with both transactions, newest first
+     */
+    @GetMapping
+    public ResponseEntity<DuplicateCandidatePageDto> getCandidates(
+            @RequestParam(value = "status", defaultValue = "PENDING") String status,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        DuplicateCandidateEntity.Status parsedStatus;
+        try {
+            parsedStatus = DuplicateCandidateEntity.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Page<DuplicateCandidateEntity> candidates = duplicateDetectionService.findByStatus(
+                parsedStatus, PageRequest.of(page, Math.min(size, 500)));
+
+        return ResponseEntity.ok(DuplicateCandidatePageDto.builder()
+                .totalCandidates(candidates.getTotalElements())
+                .page(candidates.getNumber())
+                .size(candidates.getSize())
+                .totalPages(candidates.getTotalPages())
+                .candidates(candidates.getContent().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    /**
+     * POST /api/duplicates/{id}/confirm
+     * Confirm the pair and delete the later transaction
+     */
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<DuplicateCandidateDto> confirm(@PathVariable Long id) {
+        try {
+            return duplicateDetectionService.confirm(id)
+                    .map(candidate -> ResponseEntity.ok(toDto(candidate)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/duplicates/{id}/dismiss
+     * Keep both transactions; the pair is not reported again
+     */
+    @PostMapping("/{id}/dismiss")
+    public ResponseEntity<DuplicateCandidateDto> dismiss(@PathVariable Long id) {
+        try {
+            return duplicateDetectionService.dismiss(id)
+                    .map(candidate -> ResponseEntity.ok(toDto(candidate)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private DuplicateCandidateDto toDto(DuplicateCandidateEntity candidate) {
+        return DuplicateCandidateDto.builder()
+                .id(candidate.getId())
+                .similarity(candidate.getSimilarity())
+                .status(candidate.getStatus().name())
+                .createdAt(candidate.getCreatedAt())
+                .reviewedAt(candidate.getReviewedAt())
+                .transaction(transactionRepository.findById(candidate.getTransactionId())
+                        .map(this::toTransactionDto).orElse(null))
+                .duplicateOf(transactionRepository.findById(candidate.getDuplicateOfId())
+                        .map(this::toTransactionDto).orElse(null))
+                .build();
+    }
+
+    private DuplicateTransactionDto toTransactionDto(TransactionEntity transaction) {
+        return DuplicateTransactionDto.builder()
+                .id(transaction.getId())
+                .sourceType(transaction.getSourceType().name())
+                .importId(transaction.getImportId())
+                .accountId(transaction.getAccountId())
+                .creditCardId(transaction.getCreditCardId())
+                .transactionDate(transaction.getTransactionDate())
+                .description(transaction.getDescription())
+                .amount(transaction.getAmount())
+                .transactionType(transaction.getTransactionType() != null ? transaction.getTransactionType().name() : null)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.goal.GoalProgress;
+import com.capofinance.application.goal.GoalService;
+import com.capofinance.domain.GoalEntity;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.presentation.dto.GoalDto;
+import com.capofinance.presentation.dto.GoalRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for financial goals
+ * Progress is kept current on every import, recategorization and revert
+ */
+@RestController
+@RequestMapping("/api/goals")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class GoalController {
+
+    private final GoalService goalService;
+    private final CategoryRepository categoryRepository;
+    private final PersonRepository personRepository;
+
+    /**
+     * GET /api/goals
+     * All goals with progress and projected completion date
+     */
+    @GetMapping
+    public ResponseEntity<List<GoalDto>> getAll() {
+        List<GoalDto> dtos = goalService.findAll().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * GET /api/goals/{id}
+     * Get goal by ID
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<GoalDto> getById(@PathVariable Long id) {
+        return goalService.findById(id)
+                .map(progress -> ResponseEntity.ok(toDto(progress)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * POST /api/goals
+     * Create a goal; its progress starts from the contributions already in the ledger
+     */
+    @PostMapping
+    public ResponseEntity<GoalDto> create(@RequestBody GoalRequestDto request) {
+        try {
+            GoalProgress created = goalService.create(GoalEntity.builder()
+                    .name(request.getName())
+                    .description(request.getDescription())
+                    .categoryId(request.getCategoryId())
+                    .personId(request.getPersonId())
+                    .targetAmount(request.getTargetAmount())
+                    .targetDate(request.getTargetDate())
+                    .priority(request.getPriority())
+                    .build());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toDto(created));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * PATCH /api/goals/{id}
+     * Update name, description, target, priority, or cancel/reactivate the goal
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<GoalDto> update(@PathVariable Long id, @RequestBody GoalRequestDto request) {
+        try {
+            GoalEntity.GoalStatus status = request.getStatus() != null
+                    ? GoalEntity.GoalStatus.valueOf(request.getStatus().toUpperCase())
+                    : null;
+            GoalEntity changes = GoalEntity.builder()
+                    .name(request.getName())
+                    .description(request.getDescription())
+                    .targetAmount(request.getTargetAmount())
+                    .targetDate(request.getTargetDate())
+                    .priority(request.getPriority())
+                    .build();
+            return goalService.update(id, changes, status)
+                    .map(progress -> ResponseEntity.ok(toDto(progress)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * DELETE /api/goals/{id}
+     * Remove a goal
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        return goalService.delete(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private GoalDto toDto(GoalProgress progress) {
+        GoalEntity entity = progress.getGoal();
+        BigDecimal current = entity.getCurrentAmount() != null ? entity.getCurrentAmount() : BigDecimal.ZERO;
+        BigDecimal target = entity.getTargetAmount();
+
+        return GoalDto.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .categoryId(entity.getCategoryId())
+                .categoryName(entity.getCategoryId() != null
+                        ? categoryRepository.findById(entity.getCategoryId()).map(c -> c.getName()).orElse(null)
+                        : null)
+                .personId(entity.getPersonId())
+                .personName(entity.getPersonId() != null
+                        ? personRepository.findById(entity.getPersonId()).map(p -> p.getName()).orElse(null)
+                        : null)
+                .targetAmount(target)
+                .currentAmount(current)
+                .remainingAmount(target.subtract(current).max(BigDecimal.ZERO))
+                .percentComplete(target.signum() > 0
+                        ? current.multiply(BigDecimal.valueOf(100)).divide(target, 2, RoundingMode.HALF_UP)
+                        : null)
+                .targetDate(entity.getTargetDate())
+                .status(entity.getStatus() != null ? entity.getStatus().name() : null)
+                .priority(entity.getPriority())
+                .completedAt(entity.getCompletedAt())
+                .monthlyContributionRate(progress.getMonthlyContributionRate())
+                .projectedCompletionDate(progress.getProjectedCompletionDate())
+                .onTrack(progress.getOnTrack())
+                .build();
+    }
+}
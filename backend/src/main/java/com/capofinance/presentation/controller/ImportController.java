@@ -1,14 +1,49 @@
 package com.capofinance.presentation.controller;
 
+import com.capofinance.application.csv.BatchImportResult;
+import com.capofinance.application.csv.BatchImportService;
 import com.capofinance.application.csv.CsvImportResult;
 import com.capofinance.application.csv.CsvImportService;
+import com.capofinance.application.csv.ImportPreviewRow;
+import com.capofinance.application.csv.ImportPreviewService;
+import com.capofinance.application.csv.ImportPreviewSummary;
+import com.capofinance.application.csv.ImportRevertService;
+import com.capofinance.domain.ImportErrorEntity;
+import com.capofinance.infrastructure.ImportErrorRepository;
+import com.capofinance.infrastructure.ImportRepository;
+import com.capofinance.presentation.dto.BatchImportResponseDto;
+import com.capofinance.presentation.dto.ImportErrorDto;
+import com.capofinance.presentation.dto.ImportErrorPageDto;
+import com.capofinance.presentation.dto.ImportErrorReasonDto;
+import com.capofinance.presentation.dto.ImportPreviewRowDto;
+import com.capofinance.presentation.dto.ImportPreviewSummaryDto;
 import com.capofinance.presentation.dto.ImportResponseDto;
+import com.capofinance.presentation.dto.ImportRevertResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for CSV imports
@@ -21,6 +56,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImportController {
 
     private final CsvImportService csvImportService;
+    private final BatchImportService batchImportService;
+    private final ImportRevertService importRevertService;
+    private final ImportPreviewService importPreviewService;
+    private final ObjectMapper objectMapper;
+    private final ImportRepository importRepository;
+    private final ImportErrorRepository importErrorRepository;
 
     /**
      * POST /api/imports/extrato?accountId=1
@@ -34,19 +75,7 @@ public class ImportController {
         try {
             CsvImportResult result = csvImportService.importExtrato(file, accountId);
             
-            ImportResponseDto response = ImportResponseDto.builder()
-                    .importId(result.getImportId())
-                    .fileName(result.getFileName())
-                    .fileHash(result.getFileHash())
-                    .totalRows(result.getTotalRows())
-                    .importedRows(result.getImportedRows())
-                    .skippedRows(result.getSkippedRows())
-                    .errorRows(result.getErrorRows())
-                    .status(result.getStatus())
-                    .message(result.getMessage())
-                    .build();
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(toResponseDto(result));
         } catch (Exception e) {
             ImportResponseDto errorResponse = ImportResponseDto.builder()
                     .fileName(file.getOriginalFilename())
@@ -70,19 +99,7 @@ public class ImportController {
         try {
             CsvImportResult result = csvImportService.importFatura(file, creditCardId);
             
-            ImportResponseDto response = ImportResponseDto.builder()
-                    .importId(result.getImportId())
-                    .fileName(result.getFileName())
-                    .fileHash(result.getFileHash())
-                    .totalRows(result.getTotalRows())
-                    .importedRows(result.getImportedRows())
-                    .skippedRows(result.getSkippedRows())
-                    .errorRows(result.getErrorRows())
-                    .status(result.getStatus())
-                    .message(result.getMessage())
-                    .build();
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(toResponseDto(result));
         } catch (Exception e) {
             ImportResponseDto errorResponse = ImportResponseDto.builder()
                     .fileName(file.getOriginalFilename())
@@ -93,4 +110,220 @@ public class ImportController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
+
+    /**
+     * POST /api/imports/extrato?accountId=1&preview=true
+     * Dry-run of a bank statement import, streamed as NDJSON: one line per row, then a summary line
+     */
+    @PostMapping(value = "/extrato", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "preview=true",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> previewExtrato(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("accountId") Long accountId) {
+
+        StreamingResponseBody body = out -> writePreview(out, consumer ->
+                importPreviewService.previewExtrato(file.getInputStream(), accountId, consumer));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * POST /api/imports/fatura?creditCardId=1&preview=true
+     * Dry-run of a credit card bill import, streamed as NDJSON: one line per row, then a summary line
+     */
+    @PostMapping(value = "/fatura", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "preview=true",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> previewFatura(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("creditCardId") Long creditCardId) {
+
+        StreamingResponseBody body = out -> writePreview(out, consumer ->
+                importPreviewService.previewFatura(file.getInputStream(), creditCardId, consumer));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * POST /api/imports/batch?accountId=1&creditCardId=1
+     * Upload several CSVs and/or zip/gzip archives at once
+     * Each file is routed to the extrato or fatura parser by its header
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BatchImportResponseDto> importBatch(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(value = "accountId", required = false) Long accountId,
+            @RequestParam(value = "creditCardId", required = false) Long creditCardId) {
+
+        BatchImportResult result = batchImportService.importFiles(files, accountId, creditCardId);
+        return ResponseEntity.ok(toBatchResponseDto(result));
+    }
+
+    /**
+     * POST /api/imports/batch?accountId=1&creditCardId=1&fileName=2025-10.zip
+     * Upload a single zip/gzip archive as the raw request body
+     * The archive is decompressed while it is being read
+     */
+    @PostMapping(value = "/batch", consumes = {"application/zip", "application/gzip", "application/x-gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<BatchImportResponseDto> importArchive(
+            InputStream body,
+            @RequestParam(value = "fileName", defaultValue = "upload") String fileName,
+            @RequestParam(value = "accountId", required = false) Long accountId,
+            @RequestParam(value = "creditCardId", required = false) Long creditCardId) {
+
+        BatchImportResult result = batchImportService.importStream(fileName, body, accountId, creditCardId);
+        return ResponseEntity.ok(toBatchResponseDto(result));
+    }
+
+    /**
+     * DELETE /api/imports/{id}
+     * Roll back an import: delete its transactions and mark it as REVERTED
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ImportRevertResponseDto> revertImport(@PathVariable Long id) {
+        return importRevertService.revert(id)
+                .map(result -> ResponseEntity.ok(ImportRevertResponseDto.builder()
+                        .importId(result.getImportId())
+                        .fileName(result.getFileName())
+                        .deletedRows(result.getDeletedRows())
+                        .status(result.getStatus())
+                        .message(result.getMessage())
+                        .build()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/imports/{id}/errors?page=0&size=50
+     * Rejected rows of an import, in file order, with a summary deduplicated by reason
+     * (count, first and last line); 400 for a negative page or a size below 1
+     */
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<ImportErrorPageDto> getImportErrors(
+            @PathVariable Long id,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!importRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Page<ImportErrorEntity> errors = importErrorRepository.findByImportIdOrderByLineNumber(
+                id, PageRequest.of(page, Math.min(size, 500)));
+
+        Map<String, Long> countsByReason = new LinkedHashMap<>();
+        List<ImportErrorReasonDto> reasons = new ArrayList<>();
+        for (Object[] row : importErrorRepository.countByReason(id)) {
+            ImportErrorEntity.ReasonCode reasonCode = (ImportErrorEntity.ReasonCode) row[0];
+            countsByReason.put(reasonCode.name(), (Long) row[1]);
+            reasons.add(ImportErrorReasonDto.builder()
+                    .reasonCode(reasonCode.name())
+                    .reason(reasonCode.getDescription())
+                    .count((Long) row[1])
+                    .firstLineNumber((Long) row[2])
+                    .lastLineNumber((Long) row[3])
+                    .build());
+        }
+
+        ImportErrorPageDto response = ImportErrorPageDto.builder()
+                .importId(id)
+                .totalErrors(errors.getTotalElements())
+                .page(errors.getNumber())
+                .size(errors.getSize())
+                .totalPages(errors.getTotalPages())
+                .countsByReason(countsByReason)
+                .reasons(reasons)
+                .errors(errors.getContent().stream()
+                        .map(error -> ImportErrorDto.builder()
+                                .lineNumber(error.getLineNumber())
+                                .byteOffset(error.getByteOffset())
+                                .reasonCode(error.getReasonCode().name())
+                                .reason(error.getReasonCode().getDescription())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    private void writePreview(OutputStream out, PreviewRunner runner) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        ImportPreviewSummary summary;
+        try {
+            summary = runner.run(row -> writeLine(writer, toPreviewRowDto(row)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writeLine(writer, ImportPreviewSummaryDto.builder()
+                .totalRows(summary.getTotalRows())
+                .newRows(summary.getNewRows())
+                .duplicateRows(summary.getDuplicateRows())
+                .uncategorizedRows(summary.getUncategorizedRows())
+                .errorRows(summary.getErrorRows())
+                .errorsByReason(summary.getErrorsByReason())
+                .build());
+        writer.flush();
+    }
+
+    private void writeLine(Writer writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportPreviewRowDto toPreviewRowDto(ImportPreviewRow row) {
+        return ImportPreviewRowDto.builder()
+                .lineNumber(row.getLineNumber())
+                .transactionDate(row.getTransactionDate())
+                .description(row.getDescription())
+                .amount(row.getAmount())
+                .transactionType(row.getTransactionType())
+                .status(row.getStatus().name())
+                .categoryId(row.getCategoryId())
+                .subcategoryId(row.getSubcategoryId())
+                .personName(row.getPersonName())
+                .personId(row.getPersonId())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface PreviewRunner {
+        ImportPreviewSummary run(Consumer<ImportPreviewRow> consumer) throws IOException;
+    }
+
+    private ImportResponseDto toResponseDto(CsvImportResult result) {
+        return ImportResponseDto.builder()
+                .importId(result.getImportId())
+                .fileName(result.getFileName())
+                .fileHash(result.getFileHash())
+                .totalRows(result.getTotalRows())
+                .importedRows(result.getImportedRows())
+                .skippedRows(result.getSkippedRows())
+                .errorRows(result.getErrorRows())
+                .status(result.getStatus())
+                .message(result.getMessage())
+                .build();
+    }
+
+    private BatchImportResponseDto toBatchResponseDto(BatchImportResult result) {
+        return BatchImportResponseDto.builder()
+                .totalFiles(result.getTotalFiles())
+                .importedFiles(result.getImportedFiles())
+                .skippedFiles(result.getSkippedFiles())
+                .failedFiles(result.getFailedFiles())
+                .totalRows(result.getTotalRows())
+                .importedRows(result.getImportedRows())
+                .skippedRows(result.getSkippedRows())
+                .errorRows(result.getErrorRows())
+                .files(result.getFiles().stream()
+                        .map(this::toResponseDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
 }
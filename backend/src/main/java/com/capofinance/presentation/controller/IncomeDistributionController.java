@@ -0,0 +1,93 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.distribution.DistributionBucket;
+import com.capofinance.application.distribution.DistributionReport;
+import com.capofinance.application.distribution.IncomeDistributionService;
+import com.capofinance.infrastructure.CategoryRepository;
+import com.capofinance.infrastructure.PersonRepository;
+import com.capofinance.presentation.dto.IncomeDistributionBucketDto;
+import com.capofinance.presentation.dto.IncomeDistributionDto;
+import com.capofinance.presentation.dto.IncomeDistributionMonthDto;
+import com.capofinance.presentation.dto.IncomeDistributionWhatIfRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for the income distribution model (money buckets)
+ */
+@RestController
+@RequestMapping("/api/income-distribution")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class IncomeDistributionController {
+
+    private final IncomeDistributionService incomeDistributionService;
+    private final CategoryRepository categoryRepository;
+    private final PersonRepository personRepository;
+
+    /**
+     * GET /api/income-distribution?start=2025-01&end=2025-12&personId=1
+     * Actual vs target percentages per month using the active distribution rules
+     */
+    @GetMapping
+    public ResponseEntity<IncomeDistributionDto> getDistribution(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(required = false) Long personId) {
+        try {
+            return ResponseEntity.ok(toDto(incomeDistributionService.getReport(start, end, personId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/income-distribution/what-if
+     * Replay an alternate set of percentages over the whole history
+     */
+    @PostMapping("/what-if")
+    public ResponseEntity<IncomeDistributionDto> whatIf(@RequestBody IncomeDistributionWhatIfRequestDto request) {
+        try {
+            return ResponseEntity.ok(toDto(
+                    incomeDistributionService.simulate(request.getPercentages(), request.getPersonId())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private IncomeDistributionDto toDto(DistributionReport report) {
+        return IncomeDistributionDto.builder()
+                .personId(report.getPersonId())
+                .personName(report.getPersonId() != null
+                        ? personRepository.findById(report.getPersonId()).map(p -> p.getName()).orElse(null)
+                        : null)
+                .totalIncome(report.getTotalIncome())
+                .totals(toBucketDtos(report.getTotals()))
+                .months(report.getMonths().stream()
+                        .map(month -> IncomeDistributionMonthDto.builder()
+                                .monthYear(month.getMonth().toString())
+                                .income(month.getIncome())
+                                .buckets(toBucketDtos(month.getBuckets()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private List<IncomeDistributionBucketDto> toBucketDtos(List<DistributionBucket> buckets) {
+        return buckets.stream()
+                .map(bucket -> IncomeDistributionBucketDto.builder()
+                        .categoryId(bucket.getCategoryId())
+                        .categoryName(categoryRepository.findById(bucket.getCategoryId()).map(c -> c.getName()).orElse(null))
+                        .targetPercentage(bucket.getTargetPercentage())
+                        .targetAmount(bucket.getTargetAmount())
+                        .actualAmount(bucket.getActualAmount())
+                        .actualPercentage(bucket.getActualPercentage())
+                        .difference(bucket.getDifference())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
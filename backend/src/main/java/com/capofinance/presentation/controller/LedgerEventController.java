@@ -0,0 +1,31 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.presentation.sse.LedgerEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for the ledger change feed
+ * Clients subscribe once and refresh only what an event says has changed
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class LedgerEventController {
+
+    private final LedgerEventStream ledgerEventStream;
+
+    /**
+     * GET /api/events/ledger
+     * Server-Sent Events: IMPORT_STARTED, IMPORT_PROGRESS, IMPORT_FINISHED,
+     * IMPORT_REVERTED, TRANSACTIONS_RECATEGORIZED, TRANSFERS_RECONCILED and TRANSACTIONS_TAGGED,
+     * each with ids and counts; changes to more than 100 transactions only carry updatedRows
+     */
+    @GetMapping(value = "/ledger", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return ledgerEventStream.subscribe();
+    }
+}
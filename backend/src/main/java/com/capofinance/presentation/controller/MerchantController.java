@@ -0,0 +1,31 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.merchant.MerchantService;
+import com.capofinance.presentation.dto.MerchantBackfillResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the merchants dimension
+ * New imports link merchants automatically; merchant analytics live under /api/analytics/merchants
+ */
+@RestController
+@RequestMapping("/api/merchants")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class MerchantController {
+
+    private final MerchantService merchantService;
+
+    /**
+     * POST /api/merchants/backfill
+     * Link transactions imported before the merchants dimension existed
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<MerchantBackfillResponseDto> backfill() {
+        return ResponseEntity.ok(MerchantBackfillResponseDto.builder()
+                .linkedRows(merchantService.backfill())
+                .build());
+    }
+}
@@ -1,13 +1,27 @@
 package com.capofinance.presentation.controller;
 
+import com.capofinance.application.analytics.LedgerVersionService;
+import com.capofinance.application.categorization.BulkCategorizationResult;
+import com.capofinance.application.categorization.BulkCategorizationService;
+import com.capofinance.application.categorization.MerchantMemoryService;
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.application.events.LedgerEventPublisher;
+import com.capofinance.application.tagging.TagService;
 import com.capofinance.domain.TransactionEntity;
 import com.capofinance.infrastructure.TransactionRepository;
 import com.capofinance.infrastructure.PersonRepository;
 import com.capofinance.infrastructure.CategoryRepository;
 import com.capofinance.infrastructure.SubcategoryRepository;
+import com.capofinance.presentation.dto.BulkCategorizationRequestDto;
+import com.capofinance.presentation.dto.BulkCategorizationResponseDto;
+import com.capofinance.presentation.dto.TagUpdateRequestDto;
+import com.capofinance.presentation.dto.TagUpdateResponseDto;
 import com.capofinance.presentation.dto.TransactionDto;
+import com.capofinance.presentation.dto.TransactionPageDto;
 import com.capofinance.presentation.dto.TransactionUpdateDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +42,11 @@ public class TransactionController {
     private final PersonRepository personRepository;
     private final CategoryRepository categoryRepository;
     private final SubcategoryRepository subcategoryRepository;
+    private final MerchantMemoryService merchantMemoryService;
+    private final BulkCategorizationService bulkCategorizationService;
+    private final TagService tagService;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventPublisher ledgerEventPublisher;
 
     /**
      * GET /api/transactions/uncategorized
@@ -72,6 +91,7 @@ public class TransactionController {
     /**
      * PATCH /api/transactions/{id}
      * Update transaction category/notes
+     * Category corrections are learned by the merchant memory
      */
     @PatchMapping("/{id}")
     public ResponseEntity<TransactionDto> updateTransaction(
@@ -91,11 +111,106 @@ public class TransactionController {
                     }
                     
                     TransactionEntity saved = transactionRepository.save(transaction);
+                    if (updateDto.getCategoryId() != null || updateDto.getSubcategoryId() != null) {
+                        ledgerVersionService.bump();
+                        ledgerEventPublisher.publish(LedgerChangeEvent.builder()
+                                .type(LedgerChangeEvent.Type.TRANSACTIONS_RECATEGORIZED)
+                                .transactionIds(List.of(saved.getId()))
+                                .updatedRows(1)
+                                .categoryId(saved.getCategoryId())
+                                .subcategoryId(saved.getSubcategoryId())
+                                .build());
+                    }
+                    if (updateDto.getCategoryId() != null) {
+                        // Remember the correction so next imports of this merchant are categorized
+                        merchantMemoryService.learn(saved.getDescription(), saved.getCategoryId(), saved.getSubcategoryId());
+                    }
                     return ResponseEntity.ok(toDto(saved));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * POST /api/transactions/categorize
+     * Categorize many transactions at once, selected by ids or by a description/merchant filter
+     * Applied as a single UPDATE statement
+     */
+    @PostMapping("/categorize")
+    public ResponseEntity<BulkCategorizationResponseDto> bulkCategorize(@RequestBody BulkCategorizationRequestDto request) {
+        try {
+            BulkCategorizationResult result = bulkCategorizationService.categorize(
+                    request.getIds(),
+                    request.getDescriptionContains(),
+                    request.getMerchantKey(),
+                    Boolean.TRUE.equals(request.getOnlyUncategorized()),
+                    request.getCategoryId(),
+                    request.getSubcategoryId());
+
+            return ResponseEntity.ok(BulkCategorizationResponseDto.builder()
+                    .updatedRows(result.getUpdatedRows())
+                    .categoryId(result.getCategoryId())
+                    .subcategoryId(result.getSubcategoryId())
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/transactions/tagged?tags=trip-2026&page=0&size=50
+     * Transactions carrying all of the given tags, most recent first
+     */
+    @GetMapping("/tagged")
+    public ResponseEntity<TransactionPageDto> getTagged(
+            @RequestParam("tags") List<String> tags,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        try {
+            Page<TransactionEntity> transactions = tagService.findByTags(tags, PageRequest.of(page, Math.min(size, 500)));
+            return ResponseEntity.ok(TransactionPageDto.builder()
+                    .totalTransactions(transactions.getTotalElements())
+                    .page(transactions.getNumber())
+                    .size(transactions.getSize())
+                    .totalPages(transactions.getTotalPages())
+                    .transactions(transactions.getContent().stream()
+                            .map(this::toDto)
+                            .collect(Collectors.toList()))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/transactions/tags/add
+     * Add tags to many transactions at once
+     */
+    @PostMapping("/tags/add")
+    public ResponseEntity<TagUpdateResponseDto> addTags(@RequestBody TagUpdateRequestDto request) {
+        try {
+            return ResponseEntity.ok(TagUpdateResponseDto.builder()
+                    .updatedRows(tagService.addTags(request.getIds(), request.getTags()))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/transactions/tags/remove
+     * Remove tags from many transactions at once
+     */
+    @PostMapping("/tags/remove")
+    public ResponseEntity<TagUpdateResponseDto> removeTags(@RequestBody TagUpdateRequestDto request) {
+        try {
+            return ResponseEntity.ok(TagUpdateResponseDto.builder()
+                    .updatedRows(tagService.removeTags(request.getIds(), request.getTags()))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     private TransactionDto toDto(TransactionEntity entity) {
         return TransactionDto.builder()
                 .id(entity.getId())
@@ -123,6 +238,7 @@ public class TransactionController {
                         ? subcategoryRepository.findById(entity.getSubcategoryId()).map(s -> s.getName()).orElse(null)
                         : null)
                 .notes(entity.getNotes())
+                .tags(entity.getTags() != null ? List.of(entity.getTags()) : List.of())
                 .build();
     }
 }
@@ -0,0 +1,99 @@
+package com.capofinance.presentation.controller;
+
+import com.capofinance.application.reconciliation.TransferReconciliationService;
+import com.capofinance.domain.TransactionEntity;
+import com.capofinance.infrastructure.TransactionRepository;
+import com.capofinance.presentation.dto.TransferPairDto;
+import com.capofinance.presentation.dto.TransferPairPageDto;
+import com.capofinance.presentation.dto.TransferReconciliationResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for transfer reconciliation
+ * New imports are reconciled automatically; these endpoints review, backfill and undo matches
+ */
+@RestController
+@RequestMapping("/api/transfers")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class TransferController {
+
+    private final TransferReconciliationService transferReconciliationService;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * GET /api/transfers?page=0&size=50
+     * Matched transfer pairs, most recent first
+     */
+    @GetMapping
+    public ResponseEntity<TransferPairPageDto> getPairs(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        Page<TransactionEntity> outgoing = transferReconciliationService.findPairs(
+                PageRequest.of(page, Math.min(size, 500), Sort.by(Sort.Direction.DESC, "transactionDate")));
+
+        return ResponseEntity.ok(TransferPairPageDto.builder()
+                .totalPairs(outgoing.getTotalElements())
+                .page(outgoing.getNumber())
+                .size(outgoing.getSize())
+                .totalPages(outgoing.getTotalPages())
+                .pairs(outgoing.getContent().stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    /**
+     * POST /api/transfers/reconcile
+     * Match transfers across the whole ledger (rows imported before reconciliation existed)
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<TransferReconciliationResponseDto> reconcileAll() {
+        return ResponseEntity.ok(TransferReconciliationResponseDto.builder()
+                .matchedPairs(transferReconciliationService.reconcileAll())
+                .build());
+    }
+
+    /**
+     * DELETE /api/transfers/{transactionId}
+     * Undo the pair containing the transaction; both legs return to income/expense and
+     * POST /api/transfers/reconcile will not pair them again
+     */
+    @DeleteMapping("/{transactionId}")
+    public ResponseEntity<Void> unpair(@PathVariable Long transactionId) {
+        return transferReconciliationService.unpair(transactionId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private TransferPairDto toDto(TransactionEntity from) {
+        TransactionEntity to = from.getTransferPairId() != null
+                ? transactionRepository.findById(from.getTransferPairId()).orElse(null)
+                : null;
+
+        TransferPairDto.TransferPairDtoBuilder builder = TransferPairDto.builder()
+                .amount(from.getAmount())
+                .fromTransactionId(from.getId())
+                .fromSourceType(from.getSourceType().name())
+                .fromAccountId(from.getAccountId())
+                .fromCreditCardId(from.getCreditCardId())
+                .fromDate(from.getTransactionDate())
+                .fromDescription(from.getDescription());
+        if (to != null) {
+            builder.toTransactionId(to.getId())
+                    .toSourceType(to.getSourceType().name())
+                    .toAccountId(to.getAccountId())
+                    .toCreditCardId(to.getCreditCardId())
+                    .toDate(to.getTransactionDate())
+                    .toDescription(to.getDescription());
+        }
+        return builder.build();
+    }
+}
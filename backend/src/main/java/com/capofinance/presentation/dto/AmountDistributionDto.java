@@ -0,0 +1,23 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountDistributionDto {
+    private String name; // null for the overall distribution
+    private Long count;
+    private BigDecimal total;
+    private BigDecimal p50; // estimates within 1%
+    private BigDecimal p90;
+    private BigDecimal p99;
+    private List<TransactionDto> top;
+}
@@ -0,0 +1,26 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceBreakDto {
+    private Long transactionId;
+    private LocalDateTime transactionDate;
+    private String description;
+    private BigDecimal signedAmount;
+    private BigDecimal balanceAfter;
+    private BigDecimal expectedBalance;
+    private BigDecimal difference;
+    private Long previousTransactionId;
+    private LocalDateTime previousTransactionDate;
+    private String kind; // GAP or DUPLICATE
+}
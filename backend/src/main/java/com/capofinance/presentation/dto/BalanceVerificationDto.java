@@ -0,0 +1,22 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceVerificationDto {
+    private Long accountId;
+    private String accountName;
+    private BigDecimal currentBalance;
+    private Long checkedRows;
+    private Boolean consistent;
+    private List<BalanceBreakDto> breaks;
+}
@@ -0,0 +1,24 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchImportResponseDto {
+    private Integer totalFiles;
+    private Integer importedFiles;
+    private Integer skippedFiles;
+    private Integer failedFiles;
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer skippedRows;
+    private Integer errorRows;
+    private List<ImportResponseDto> files;
+}
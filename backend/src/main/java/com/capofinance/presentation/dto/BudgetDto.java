@@ -0,0 +1,28 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetDto {
+    private Long id;
+    private String monthYear;
+    private Long categoryId;
+    private String categoryName;
+    private Long subcategoryId;
+    private String subcategoryName;
+    private Long personId;
+    private String personName;
+    private BigDecimal plannedAmount;
+    private BigDecimal actualAmount;
+    private BigDecimal remainingAmount;
+    private BigDecimal percentUsed;
+    private String notes;
+}
@@ -0,0 +1,21 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRequestDto {
+    private String monthYear; // YYYY-MM
+    private Long categoryId; // null = all categories
+    private Long subcategoryId; // null = whole category
+    private Long personId; // null = everyone
+    private BigDecimal plannedAmount;
+    private String notes;
+}
@@ -0,0 +1,21 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCategorizationRequestDto {
+    private List<Long> ids;
+    private String descriptionContains;
+    private String merchantKey;
+    private Boolean onlyUncategorized;
+    private Long categoryId;
+    private Long subcategoryId;
+}
@@ -0,0 +1,16 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCategorizationResponseDto {
+    private Integer updatedRows;
+    private Long categoryId;
+    private Long subcategoryId;
+}
@@ -0,0 +1,19 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatisticsDto {
+    private String region;
+    private Long hits;
+    private Long misses;
+    private Long puts;
+    private Double hitRatio;
+    private Long elementsInMemory;
+}
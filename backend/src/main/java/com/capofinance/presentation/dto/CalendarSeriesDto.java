@@ -0,0 +1,25 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarSeriesDto {
+    private Long personId;
+    private String personName;
+    private String sourceType; // EXTRATO or FATURA
+    private Long accountId;
+    private Long creditCardId;
+    private String sourceName;
+    private List<BigDecimal> income; // index = day of year - 1
+    private List<BigDecimal> expense;
+    private List<Integer> counts;
+}
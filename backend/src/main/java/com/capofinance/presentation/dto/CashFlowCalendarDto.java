@@ -0,0 +1,21 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowCalendarDto {
+    private Integer year;
+    private LocalDate firstDay; // day of the first bucket
+    private Integer days; // 365 or 366
+    private List<CalendarSeriesDto> series;
+    private Long ledgerVersion;
+}
@@ -0,0 +1,21 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorizationRuleDto {
+    private Long id;
+    private String pattern;
+    private String matchType; // CONTAINS, STARTS_WITH, EQUALS
+    private Integer priority;
+    private Long subcategoryId;
+    private Long personId;
+    private Boolean isActive;
+    private Boolean clearPersonId; // Update only: true removes the person override
+}
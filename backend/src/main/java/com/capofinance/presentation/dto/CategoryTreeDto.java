@@ -0,0 +1,24 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTreeDto {
+    private Long id;
+    private String name;
+    private String description;
+    private String type;
+    private String color;
+    private String icon;
+    private Integer sortOrder;
+    private Boolean isActive;
+    private List<SubcategoryDto> subcategories;
+}
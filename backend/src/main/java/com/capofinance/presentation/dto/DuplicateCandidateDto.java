@@ -0,0 +1,23 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCandidateDto {
+    private Long id;
+    private BigDecimal similarity;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime reviewedAt;
+    private DuplicateTransactionDto transaction; // later row, removed on confirm; null once removed
+    private DuplicateTransactionDto duplicateOf;
+}
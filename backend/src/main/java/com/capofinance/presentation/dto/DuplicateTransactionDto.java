@@ -0,0 +1,25 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateTransactionDto {
+    private Long id;
+    private String sourceType;
+    private Long importId;
+    private Long accountId;
+    private Long creditCardId;
+    private LocalDateTime transactionDate;
+    private String description;
+    private BigDecimal amount;
+    private String transactionType;
+}
@@ -0,0 +1,22 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseDistributionDto {
+    private LocalDate start;
+    private LocalDate end;
+    private AmountDistributionDto overall;
+    private List<AmountDistributionDto> byCategory;
+    private List<AmountDistributionDto> byPerson;
+    private Long ledgerVersion;
+}
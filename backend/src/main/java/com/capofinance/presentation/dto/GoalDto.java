@@ -0,0 +1,35 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalDto {
+    private Long id;
+    private String name;
+    private String description;
+    private Long categoryId;
+    private String categoryName;
+    private Long personId;
+    private String personName;
+    private BigDecimal targetAmount;
+    private BigDecimal currentAmount;
+    private BigDecimal remainingAmount;
+    private BigDecimal percentComplete;
+    private LocalDate targetDate;
+    private String status;
+    private Integer priority;
+    private LocalDateTime completedAt;
+    private BigDecimal monthlyContributionRate;
+    private LocalDate projectedCompletionDate;
+    private Boolean onTrack;
+}
@@ -0,0 +1,24 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalRequestDto {
+    private String name;
+    private String description;
+    private Long categoryId; // expenses of this category count as contributions
+    private Long personId; // null = everyone
+    private BigDecimal targetAmount;
+    private LocalDate targetDate;
+    private Integer priority;
+    private String status; // PATCH only: ACTIVE or CANCELLED
+}
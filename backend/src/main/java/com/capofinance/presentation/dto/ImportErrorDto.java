@@ -0,0 +1,17 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+    private Long lineNumber;
+    private Long byteOffset;
+    private String reasonCode;
+    private String reason;
+}
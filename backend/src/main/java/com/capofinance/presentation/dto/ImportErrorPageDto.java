@@ -0,0 +1,24 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorPageDto {
+    private Long importId;
+    private Long totalErrors;
+    private Integer page;
+    private Integer size;
+    private Integer totalPages;
+    private Map<String, Long> countsByReason;
+    private List<ImportErrorReasonDto> reasons;
+    private List<ImportErrorDto> errors;
+}
@@ -0,0 +1,18 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorReasonDto {
+    private String reasonCode;
+    private String reason;
+    private Long count;
+    private Long firstLineNumber;
+    private Long lastLineNumber;
+}
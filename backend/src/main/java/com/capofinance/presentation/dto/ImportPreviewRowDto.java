@@ -0,0 +1,27 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportPreviewRowDto {
+    private final String type = "row";
+    private Long lineNumber;
+    private LocalDateTime transactionDate;
+    private String description;
+    private BigDecimal amount;
+    private String transactionType;
+    private String status; // NEW, DUPLICATE, DUPLICATE_IN_FILE
+    private Long categoryId;
+    private Long subcategoryId;
+    private String personName;
+    private Long personId;
+}
@@ -0,0 +1,22 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportPreviewSummaryDto {
+    private final String type = "summary";
+    private Integer totalRows;
+    private Integer newRows;
+    private Integer duplicateRows;
+    private Integer uncategorizedRows;
+    private Integer errorRows;
+    private Map<String, Integer> errorsByReason;
+}
@@ -0,0 +1,18 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRevertResponseDto {
+    private Long importId;
+    private String fileName;
+    private Integer deletedRows;
+    private String status;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncomeDistributionBucketDto {
+    private Long categoryId;
+    private String categoryName;
+    private BigDecimal targetPercentage;
+    private BigDecimal targetAmount;
+    private BigDecimal actualAmount;
+    private BigDecimal actualPercentage;
+    private BigDecimal difference;
+}
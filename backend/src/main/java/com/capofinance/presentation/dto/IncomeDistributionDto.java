@@ -0,0 +1,21 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncomeDistributionDto {
+    private Long personId; // null = household
+    private String personName;
+    private BigDecimal totalIncome;
+    private List<IncomeDistributionBucketDto> totals;
+    private List<IncomeDistributionMonthDto> months;
+}
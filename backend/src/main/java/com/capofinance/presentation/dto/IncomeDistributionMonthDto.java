@@ -0,0 +1,19 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncomeDistributionMonthDto {
+    private String monthYear;
+    private BigDecimal income;
+    private List<IncomeDistributionBucketDto> buckets;
+}
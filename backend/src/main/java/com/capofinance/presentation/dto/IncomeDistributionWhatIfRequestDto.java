@@ -0,0 +1,18 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncomeDistributionWhatIfRequestDto {
+    private Map<Long, BigDecimal> percentages; // category id -> percentage of income
+    private Long personId; // null = household
+}
@@ -0,0 +1,30 @@
+package com.capofinance.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LedgerChangeEventDto {
+    private String type;
+    private Long importId;
+    private String fileName;
+    private Integer processedRows;
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer skippedRows;
+    private Integer errorRows;
+    private String status;
+    private List<Long> transactionIds;
+    private Integer updatedRows;
+    private Long categoryId;
+    private Long subcategoryId;
+}
@@ -0,0 +1,19 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlySummaryDto {
+    private String month;
+    private String transactionType;
+    private Long count;
+    private BigDecimal total;
+}
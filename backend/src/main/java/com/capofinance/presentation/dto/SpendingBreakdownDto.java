@@ -0,0 +1,19 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendingBreakdownDto {
+    private String name;
+    private String parentName;
+    private BigDecimal total;
+    private Long count;
+}
@@ -0,0 +1,25 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagSummaryDto {
+    private List<String> tags;
+    private LocalDate start; // null = whole history
+    private LocalDate end;
+    private Long count;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private List<SpendingBreakdownDto> expensesByCategory;
+    private Long ledgerVersion;
+}
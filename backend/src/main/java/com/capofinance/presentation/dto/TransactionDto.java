@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -32,4 +33,5 @@ public class TransactionDto {
     private Long subcategoryId;
     private String subcategoryName;
     private String notes;
+    private List<String> tags;
 }
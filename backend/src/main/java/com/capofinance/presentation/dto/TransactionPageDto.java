@@ -0,0 +1,20 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDto {
+    private Long totalTransactions;
+    private Integer page;
+    private Integer size;
+    private Integer totalPages;
+    private List<TransactionDto> transactions;
+}
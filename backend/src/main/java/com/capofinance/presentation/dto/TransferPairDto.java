@@ -0,0 +1,33 @@
+package com.capofinance.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferPairDto {
+    private BigDecimal amount;
+
+    // Outgoing leg (money left this account/card)
+    private Long fromTransactionId;
+    private String fromSourceType;
+    private Long fromAccountId;
+    private Long fromCreditCardId;
+    private LocalDateTime fromDate;
+    private String fromDescription;
+
+    // Incoming leg
+    private Long toTransactionId;
+    private String toSourceType;
+    private Long toAccountId;
+    private Long toCreditCardId;
+    private LocalDateTime toDate;
+    private String toDescription;
+}
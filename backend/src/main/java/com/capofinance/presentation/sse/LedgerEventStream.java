@@ -0,0 +1,161 @@
+package com.capofinance.presentation.sse;
+
+import com.capofinance.application.events.LedgerChangeEvent;
+import com.capofinance.presentation.dto.LedgerChangeEventDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Registry of SSE subscribers to ledger change events
+ * Connections are async servlet requests, so an idle subscriber holds no thread.
+ * Each subscriber has its own bounded queue drained by at most one sender thread at
+ * a time, so a slow client only delays its own events; a client whose queue fills up
+ * is disconnected (the browser EventSource reconnects and reloads).
+ */
+@Component
+public class LedgerEventStream {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ledger-sse-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final long timeoutMs;
+    private final int queueSize;
+
+    public LedgerEventStream(
+            @Value("${capofinance.events.sse-timeout-ms:1800000}") long timeoutMs,
+            @Value("${capofinance.events.subscriber-queue-size:100}") int queueSize) {
+        this.timeoutMs = timeoutMs;
+        this.queueSize = queueSize;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, queueSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onLedgerChange(LedgerChangeEvent event) {
+        LedgerChangeEventDto dto = toDto(event);
+        String id = String.valueOf(eventSequence.incrementAndGet());
+        broadcast(() -> SseEmitter.event()
+                .id(id)
+                .name(event.getType().name())
+                .data(dto, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Comment line that keeps proxies from closing idle connections and
+     * detects clients that went away without closing the stream
+     */
+    @Scheduled(fixedDelayString = "${capofinance.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        broadcast(() -> SseEmitter.event().comment("heartbeat"));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // Builders accumulate state when sent, so each emitter gets a fresh one
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.pending.offer(event)) {
+                disconnect(subscriber, null);
+            } else if (subscriber.draining.compareAndSet(false, true)) {
+                sender.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while ((event = subscriber.pending.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event.get());
+                } catch (IOException | IllegalStateException e) {
+                    disconnect(subscriber, e);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued between the last poll and the reset must not wait for the next one
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    // Completion waits for a send in progress, so a stalled client is completed off the caller's thread
+    private void disconnect(Subscriber subscriber, Exception error) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.pending.clear();
+        sender.execute(() -> {
+            if (error != null) {
+                subscriber.emitter.completeWithError(error);
+            } else {
+                subscriber.emitter.complete();
+            }
+        });
+    }
+
+    private LedgerChangeEventDto toDto(LedgerChangeEvent event) {
+        return LedgerChangeEventDto.builder()
+                .type(event.getType().name())
+                .importId(event.getImportId())
+                .fileName(event.getFileName())
+                .processedRows(event.getProcessedRows())
+                .totalRows(event.getTotalRows())
+                .importedRows(event.getImportedRows())
+                .skippedRows(event.getSkippedRows())
+                .errorRows(event.getErrorRows())
+                .status(event.getStatus())
+                .transactionIds(event.getTransactionIds())
+                .updatedRows(event.getUpdatedRows())
+                .categoryId(event.getCategoryId())
+                .subcategoryId(event.getSubcategoryId())
+                .build();
+    }
+
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- V10__create_outbox_events.sql
+-- Transactional outbox: derived work requested in the same transaction as the
+-- import, drained asynchronously by OutboxDispatcher
+
+-- =====================================================
+-- OUTBOX_EVENTS - pending post-import work
+-- =====================================================
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL, -- IMPORT_COMPLETED, ...
+    aggregate_id INTEGER NOT NULL, -- e.g. imports.id
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'DONE', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+
+    -- Enqueueing the same work twice is a no-op
+    CONSTRAINT uq_outbox_events_type_aggregate UNIQUE (event_type, aggregate_id)
+);
+
+-- Dispatcher polls only due pending rows
+CREATE INDEX idx_outbox_events_due ON outbox_events(next_attempt_at, id) WHERE status = 'PENDING';
+
+COMMENT ON TABLE outbox_events IS 'Post-import work written atomically with the import and processed in the background';
@@ -0,0 +1,69 @@
+-- V11__maintain_budget_actuals.sql
+-- Keeps budgets.actual_amount current from the deltas of every transaction write
+-- (import insert, recategorization, revert delete) in the writing transaction.
+-- A budget matches expenses of its month; NULL category/subcategory/person act as wildcards.
+
+-- =====================================================
+-- FUNCTIONS - budget delta maintenance
+-- =====================================================
+CREATE OR REPLACE FUNCTION apply_budget_delta(
+    p_month_year VARCHAR,
+    p_category_id INTEGER,
+    p_subcategory_id INTEGER,
+    p_person_id INTEGER,
+    p_delta DECIMAL
+) RETURNS void AS $$
+BEGIN
+    IF p_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    UPDATE budgets
+    SET actual_amount = actual_amount + p_delta
+    WHERE month_year = p_month_year
+      AND (category_id IS NULL OR category_id = p_category_id)
+      AND (subcategory_id IS NULL OR subcategory_id = p_subcategory_id)
+      AND (person_id IS NULL OR person_id = p_person_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION transactions_budget_actuals()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.transaction_type = 'EXPENSE' THEN
+        PERFORM apply_budget_delta(TO_CHAR(OLD.transaction_date, 'YYYY-MM'),
+                                   OLD.category_id, OLD.subcategory_id, OLD.person_id, -OLD.amount);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.transaction_type = 'EXPENSE' THEN
+        PERFORM apply_budget_delta(TO_CHAR(NEW.transaction_date, 'YYYY-MM'),
+                                   NEW.category_id, NEW.subcategory_id, NEW.person_id, NEW.amount);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transactions_budget_actuals
+    AFTER INSERT OR DELETE
+       OR UPDATE OF transaction_date, category_id, subcategory_id, person_id, amount, transaction_type
+    ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_budget_actuals();
+
+-- =====================================================
+-- BUDGETS - lookup by month and one-time backfill
+-- =====================================================
+CREATE INDEX idx_budgets_month ON budgets(month_year);
+
+UPDATE budgets b
+SET actual_amount = COALESCE((
+    SELECT SUM(t.amount)
+    FROM transactions t
+    WHERE t.transaction_type = 'EXPENSE'
+      AND TO_CHAR(t.transaction_date, 'YYYY-MM') = b.month_year
+      AND (b.category_id IS NULL OR t.category_id = b.category_id)
+      AND (b.subcategory_id IS NULL OR t.subcategory_id = b.subcategory_id)
+      AND (b.person_id IS NULL OR t.person_id = b.person_id)
+), 0);
+
+COMMENT ON COLUMN budgets.actual_amount IS 'Maintained by the transactions_budget_actuals trigger; never written by the application';
@@ -0,0 +1,96 @@
+-- V12__maintain_goal_progress.sql
+-- Keeps goals.current_amount current from the category deltas of every transaction write
+-- (import insert, recategorization, revert delete) in the writing transaction, and keeps
+-- per-month contributions so completion dates can be projected without scanning transactions.
+-- A goal accumulates the expenses of its category; NULL person acts as a wildcard.
+
+-- =====================================================
+-- GOAL CONTRIBUTIONS - monthly contribution per goal
+-- =====================================================
+CREATE TABLE goal_contributions (
+    goal_id INTEGER NOT NULL REFERENCES goals(id) ON DELETE CASCADE,
+    month_year VARCHAR(7) NOT NULL, -- Format: YYYY-MM
+    amount DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (goal_id, month_year)
+);
+
+-- =====================================================
+-- FUNCTIONS - goal delta maintenance
+-- =====================================================
+CREATE OR REPLACE FUNCTION apply_goal_delta(
+    p_month_year VARCHAR,
+    p_category_id INTEGER,
+    p_person_id INTEGER,
+    p_delta DECIMAL
+) RETURNS void AS $$
+BEGIN
+    IF p_delta = 0 OR p_category_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    -- Completion follows the balance both ways; cancelled goals are left untouched
+    UPDATE goals
+    SET current_amount = current_amount + p_delta,
+        status = CASE WHEN current_amount + p_delta >= target_amount THEN 'COMPLETED' ELSE 'ACTIVE' END,
+        completed_at = CASE
+            WHEN current_amount + p_delta < target_amount THEN NULL
+            WHEN status = 'COMPLETED' THEN completed_at
+            ELSE CURRENT_TIMESTAMP
+        END
+    WHERE category_id = p_category_id
+      AND (person_id IS NULL OR person_id = p_person_id)
+      AND status <> 'CANCELLED';
+
+    INSERT INTO goal_contributions (goal_id, month_year, amount)
+    SELECT id, p_month_year, p_delta
+    FROM goals
+    WHERE category_id = p_category_id
+      AND (person_id IS NULL OR person_id = p_person_id)
+      AND status <> 'CANCELLED'
+    ON CONFLICT (goal_id, month_year) DO UPDATE
+    SET amount = goal_contributions.amount + EXCLUDED.amount;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION transactions_goal_progress()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.transaction_type = 'EXPENSE' THEN
+        PERFORM apply_goal_delta(TO_CHAR(OLD.transaction_date, 'YYYY-MM'),
+                                 OLD.category_id, OLD.person_id, -OLD.amount);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.transaction_type = 'EXPENSE' THEN
+        PERFORM apply_goal_delta(TO_CHAR(NEW.transaction_date, 'YYYY-MM'),
+                                 NEW.category_id, NEW.person_id, NEW.amount);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transactions_goal_progress
+    AFTER INSERT OR DELETE
+       OR UPDATE OF transaction_date, category_id, person_id, amount, transaction_type
+    ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_goal_progress();
+
+-- =====================================================
+-- GOALS - lookup by category and one-time backfill
+-- =====================================================
+CREATE INDEX idx_goals_category ON goals(category_id) WHERE status <> 'CANCELLED';
+
+INSERT INTO goal_contributions (goal_id, month_year, amount)
+SELECT g.id, TO_CHAR(t.transaction_date, 'YYYY-MM'), SUM(t.amount)
+FROM goals g
+JOIN transactions t ON t.category_id = g.category_id
+                   AND (g.person_id IS NULL OR t.person_id = g.person_id)
+WHERE t.transaction_type = 'EXPENSE'
+  AND g.status <> 'CANCELLED'
+GROUP BY g.id, TO_CHAR(t.transaction_date, 'YYYY-MM');
+
+UPDATE goals g
+SET current_amount = COALESCE((SELECT SUM(c.amount) FROM goal_contributions c WHERE c.goal_id = g.id), 0)
+WHERE g.status <> 'CANCELLED';
+
+COMMENT ON COLUMN goals.current_amount IS 'Maintained by the transactions_goal_progress trigger; never written by the application';
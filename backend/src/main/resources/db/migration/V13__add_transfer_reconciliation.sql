@@ -0,0 +1,15 @@
+-- V13__add_transfer_reconciliation.sql
+-- Pairs the two legs of a transfer (e.g. card bill paid from checking: EXTRATO expense +
+-- FATURA credit) and marks both as TRANSFER, so every aggregate filtering on
+-- INCOME/EXPENSE (and the budget/goal triggers) stops double-counting them.
+
+-- transfer_direction keeps the original leg so a pair can be undone and balances replayed:
+-- OUT = money left the account/card (was EXPENSE), IN = money arrived (was INCOME)
+ALTER TABLE transactions
+    ADD COLUMN transfer_pair_id INTEGER,
+    ADD COLUMN transfer_direction VARCHAR(3) CHECK (transfer_direction IN ('IN', 'OUT'));
+
+CREATE INDEX idx_transactions_transfer_pair ON transactions(transfer_pair_id)
+    WHERE transfer_pair_id IS NOT NULL;
+
+COMMENT ON COLUMN transactions.transfer_pair_id IS 'Other leg of a TRANSFER pair, set by the reconciliation matcher';
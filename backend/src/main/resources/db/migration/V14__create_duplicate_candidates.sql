@@ -0,0 +1,25 @@
+-- V14__create_duplicate_candidates.sql
+-- Near-duplicate transactions found after each import, kept for manual review.
+-- transaction_id is the later row (the suspected duplicate), duplicate_of_id the earlier one.
+
+-- =====================================================
+-- DUPLICATE_CANDIDATES - pairs awaiting review
+-- =====================================================
+CREATE TABLE duplicate_candidates (
+    id BIGSERIAL PRIMARY KEY,
+    transaction_id INTEGER NOT NULL,
+    duplicate_of_id INTEGER NOT NULL,
+    similarity DECIMAL(4,3) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'CONFIRMED', 'DISMISSED')),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    reviewed_at TIMESTAMP,
+
+    -- Re-running detection never recreates a pair, so dismissed pairs stay dismissed
+    CONSTRAINT uq_duplicate_candidates_pair UNIQUE (transaction_id, duplicate_of_id),
+    CHECK (transaction_id > duplicate_of_id)
+);
+
+CREATE INDEX idx_duplicate_candidates_pending ON duplicate_candidates(created_at DESC) WHERE status = 'PENDING';
+CREATE INDEX idx_duplicate_candidates_duplicate_of ON duplicate_candidates(duplicate_of_id);
+
+COMMENT ON TABLE duplicate_candidates IS 'Near-duplicates (same amount, close dates, similar descriptions) found by DuplicateDetectionService';
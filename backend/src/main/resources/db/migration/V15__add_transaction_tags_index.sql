@@ -0,0 +1,7 @@
+-- V15__add_transaction_tags_index.sql
+-- Tag filters (tags @> ARRAY['trip-2026']) are answered by a GIN index instead of
+-- scanning and unnesting every tags array.
+
+CREATE INDEX idx_transactions_tags ON transactions USING GIN (tags);
+
+ANALYZE transactions;
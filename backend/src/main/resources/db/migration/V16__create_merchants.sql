@@ -0,0 +1,25 @@
+-- V16__create_merchants.sql
+-- Merchant dimension: one row per normalized merchant key (MerchantKeyNormalizer),
+-- referenced by transactions.merchant_id so merchant aggregates group on an integer
+-- instead of the raw description text.
+-- Keys are computed in Java, so existing rows are linked by POST /api/merchants/backfill.
+
+-- =====================================================
+-- MERCHANTS - interned merchant keys
+-- =====================================================
+CREATE TABLE merchants (
+    id SERIAL PRIMARY KEY,
+    merchant_key VARCHAR(100) NOT NULL UNIQUE, -- Description without dates, ids and city suffixes
+    display_name TEXT NOT NULL, -- First raw description seen for the key
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE transactions
+    ADD COLUMN merchant_id INTEGER REFERENCES merchants(id);
+
+-- Merchant trend and recurring detection: all rows of one merchant by date
+CREATE INDEX idx_transactions_merchant_date ON transactions(merchant_id, transaction_date DESC)
+    WHERE merchant_id IS NOT NULL;
+
+COMMENT ON TABLE merchants IS 'Normalized merchants, interned at import time by MerchantService';
+COMMENT ON COLUMN transactions.merchant_id IS 'Merchant of the description, NULL until linked by import or backfill';
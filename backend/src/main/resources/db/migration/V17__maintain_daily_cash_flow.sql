@@ -0,0 +1,90 @@
+-- V17__maintain_daily_cash_flow.sql
+-- Keeps per-day income/expense totals per person and account/card current from the deltas
+-- of every transaction write (import insert, reconciliation, revert delete) in the writing
+-- transaction, so a year of the cash-flow calendar is one range read of at most 366 days.
+-- TRANSFER rows are not income nor expense and are left out.
+
+-- =====================================================
+-- DAILY_CASH_FLOW - one row per day, person and account/card
+-- =====================================================
+CREATE TABLE daily_cash_flow (
+    day DATE NOT NULL,
+    person_id INTEGER NOT NULL REFERENCES people(id),
+    source_type VARCHAR(20) NOT NULL CHECK (source_type IN ('EXTRATO', 'FATURA')),
+    source_id INTEGER NOT NULL, -- account_id for EXTRATO, credit_card_id for FATURA
+    income DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    expense DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    transaction_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (day, person_id, source_type, source_id)
+);
+
+-- =====================================================
+-- FUNCTIONS - daily delta maintenance
+-- =====================================================
+CREATE OR REPLACE FUNCTION apply_daily_cash_flow_delta(
+    p_day DATE,
+    p_person_id INTEGER,
+    p_source_type VARCHAR,
+    p_source_id INTEGER,
+    p_transaction_type VARCHAR,
+    p_amount DECIMAL,
+    p_sign INTEGER
+) RETURNS void AS $$
+BEGIN
+    IF p_transaction_type IS NULL OR p_transaction_type NOT IN ('INCOME', 'EXPENSE') THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO daily_cash_flow (day, person_id, source_type, source_id, income, expense, transaction_count)
+    VALUES (p_day, p_person_id, p_source_type, p_source_id,
+            CASE WHEN p_transaction_type = 'INCOME' THEN p_sign * p_amount ELSE 0 END,
+            CASE WHEN p_transaction_type = 'EXPENSE' THEN p_sign * p_amount ELSE 0 END,
+            p_sign)
+    ON CONFLICT (day, person_id, source_type, source_id) DO UPDATE
+    SET income = daily_cash_flow.income + EXCLUDED.income,
+        expense = daily_cash_flow.expense + EXCLUDED.expense,
+        transaction_count = daily_cash_flow.transaction_count + EXCLUDED.transaction_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION transactions_daily_cash_flow()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_daily_cash_flow_delta(OLD.transaction_date::DATE, OLD.person_id, OLD.source_type,
+                                            CASE WHEN OLD.source_type = 'EXTRATO' THEN OLD.account_id ELSE OLD.credit_card_id END,
+                                            OLD.transaction_type, OLD.amount, -1);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_daily_cash_flow_delta(NEW.transaction_date::DATE, NEW.person_id, NEW.source_type,
+                                            CASE WHEN NEW.source_type = 'EXTRATO' THEN NEW.account_id ELSE NEW.credit_card_id END,
+                                            NEW.transaction_type, NEW.amount, 1);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transactions_daily_cash_flow
+    AFTER INSERT OR DELETE
+       OR UPDATE OF transaction_date, person_id, account_id, credit_card_id, amount, transaction_type
+    ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_daily_cash_flow();
+
+-- =====================================================
+-- One-time backfill
+-- =====================================================
+INSERT INTO daily_cash_flow (day, person_id, source_type, source_id, income, expense, transaction_count)
+SELECT transaction_date::DATE,
+       person_id,
+       source_type,
+       CASE WHEN source_type = 'EXTRATO' THEN account_id ELSE credit_card_id END,
+       COALESCE(SUM(amount) FILTER (WHERE transaction_type = 'INCOME'), 0),
+       COALESCE(SUM(amount) FILTER (WHERE transaction_type = 'EXPENSE'), 0),
+       COUNT(*)
+FROM transactions
+WHERE transaction_type IN ('INCOME', 'EXPENSE')
+GROUP BY 1, 2, 3, 4;
+
+COMMENT ON TABLE daily_cash_flow IS 'Maintained by the transactions_daily_cash_flow trigger; never written by the application';
@@ -0,0 +1,18 @@
+-- V18__create_transfer_pair_rejections.sql
+-- Transfer pairs undone by the user (DELETE /api/transfers/{id}); the reconciliation
+-- matcher never proposes them again, so a full re-run does not restore a wrong match.
+
+-- =====================================================
+-- TRANSFER_PAIR_REJECTIONS - one row per undone pair
+-- =====================================================
+CREATE TABLE transfer_pair_rejections (
+    out_id INTEGER NOT NULL, -- Leg that was the outgoing side (EXPENSE)
+    in_id INTEGER NOT NULL, -- Leg that was the incoming side (INCOME)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (out_id, in_id)
+);
+
+CREATE INDEX idx_transfer_pair_rejections_in ON transfer_pair_rejections(in_id);
+
+COMMENT ON TABLE transfer_pair_rejections IS 'Transfer pairs undone by the user, excluded from TransactionRepository.reconcileTransfers';
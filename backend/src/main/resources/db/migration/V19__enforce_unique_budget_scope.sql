@@ -0,0 +1,20 @@
+-- V19__enforce_unique_budget_scope.sql
+-- The V3 UNIQUE(category_id, subcategory_id, person_id, month_year) treats NULLs as
+-- distinct, so two wildcard budgets (no subcategory or no person) for the same month
+-- could coexist and the actuals trigger maintained both. PostgreSQL 13 has no
+-- NULLS NOT DISTINCT, so the scope is compared through COALESCE(..., 0) (ids start at 1).
+
+-- Keep the oldest of each duplicated scope; the later ones would have been rejected with 409
+DELETE FROM budgets b
+USING budgets older
+WHERE older.month_year = b.month_year
+  AND COALESCE(older.category_id, 0) = COALESCE(b.category_id, 0)
+  AND COALESCE(older.subcategory_id, 0) = COALESCE(b.subcategory_id, 0)
+  AND COALESCE(older.person_id, 0) = COALESCE(b.person_id, 0)
+  AND older.id < b.id;
+
+CREATE UNIQUE INDEX uq_budgets_scope ON budgets(
+    COALESCE(category_id, 0), COALESCE(subcategory_id, 0), COALESCE(person_id, 0), month_year);
+
+-- Superseded by uq_budgets_scope
+ALTER TABLE budgets DROP CONSTRAINT IF EXISTS budgets_category_id_subcategory_id_person_id_month_year_key;
@@ -0,0 +1,12 @@
+-- V20__track_merchant_memory_changes_by_txid.sql
+-- updated_at is the writer's transaction start, so a correction that commits after a
+-- newer one carries an older timestamp and an updated_at >= last-sync read never sees it.
+-- Each write now records its transaction id; a reader re-reads from the oldest transaction
+-- still running when it last synced (txid_snapshot_xmin), which covers late commits.
+
+ALTER TABLE merchant_category_memory ADD COLUMN change_txid BIGINT NOT NULL DEFAULT txid_current();
+
+DROP INDEX idx_merchant_category_memory_updated;
+CREATE INDEX idx_merchant_category_memory_txid ON merchant_category_memory(change_txid);
+
+COMMENT ON COLUMN merchant_category_memory.change_txid IS 'txid_current() of the last write, for MerchantMemoryService incremental sync';
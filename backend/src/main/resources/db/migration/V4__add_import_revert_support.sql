@@ -0,0 +1,19 @@
+-- V4__add_import_revert_support.sql
+-- Allows an import to be rolled back (DELETE /api/imports/{id})
+-- A reverted import keeps its history row but frees its file hash so the
+-- same file can be imported again (e.g. against the correct account)
+
+-- =====================================================
+-- IMPORTS - REVERTED status
+-- =====================================================
+ALTER TABLE imports DROP CONSTRAINT IF EXISTS imports_status_check;
+ALTER TABLE imports ADD CONSTRAINT imports_status_check
+    CHECK (status IN ('SUCCESS', 'PARTIAL', 'FAILED', 'REVERTED'));
+
+ALTER TABLE imports ADD COLUMN reverted_at TIMESTAMP;
+
+-- File hash is only unique among imports that were not reverted
+ALTER TABLE imports DROP CONSTRAINT IF EXISTS imports_file_hash_key;
+CREATE UNIQUE INDEX uq_imports_file_hash_active ON imports(file_hash) WHERE status <> 'REVERTED';
+
+COMMENT ON COLUMN imports.reverted_at IS 'When the import was rolled back and its transactions deleted';
@@ -0,0 +1,19 @@
+-- V5__create_import_errors.sql
+-- Row-level capture of rejected CSV rows
+-- Only the position and a reason code are stored per row; the human readable
+-- reason is derived from the code, so repeated failures cost a few bytes each
+
+-- =====================================================
+-- IMPORT_ERRORS - Rejected rows of an import
+-- =====================================================
+CREATE TABLE import_errors (
+    id SERIAL PRIMARY KEY,
+    import_id INTEGER NOT NULL REFERENCES imports(id) ON DELETE CASCADE,
+    line_number INTEGER NOT NULL, -- 1-based line in the CSV file (header is line 1)
+    byte_offset BIGINT, -- Offset of the row's first byte in the raw file
+    reason_code VARCHAR(30) NOT NULL CHECK (reason_code IN ('MISSING_COLUMN', 'INVALID_DATE', 'INVALID_AMOUNT', 'PERSIST_FAILED', 'UNKNOWN'))
+);
+
+CREATE INDEX idx_import_errors_import ON import_errors(import_id, line_number);
+
+COMMENT ON TABLE import_errors IS 'Rows rejected while parsing or persisting an import, served by GET /api/imports/{id}/errors';
@@ -0,0 +1,73 @@
+-- V6__create_categorization_rules.sql
+-- Keyword rules used by auto-categorization, previously hard-coded in AutoCategorizationService
+-- Rules are compiled into an in-memory matcher and recompiled whenever this table changes
+
+-- =====================================================
+-- CATEGORIZATION_RULES - Description pattern -> subcategory
+-- =====================================================
+CREATE TABLE categorization_rules (
+    id SERIAL PRIMARY KEY,
+    pattern VARCHAR(255) NOT NULL, -- Matched case-insensitively against the description
+    match_type VARCHAR(20) NOT NULL DEFAULT 'CONTAINS' CHECK (match_type IN ('CONTAINS', 'STARTS_WITH', 'EQUALS')),
+    priority INTEGER NOT NULL DEFAULT 0, -- Highest priority wins; ties go to the longest pattern
+    subcategory_id INTEGER NOT NULL REFERENCES subcategories(id) ON DELETE CASCADE,
+    person_id INTEGER REFERENCES people(id), -- Overrides the person detected by the parser
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE(pattern, match_type)
+);
+
+CREATE TRIGGER update_categorization_rules_updated_at BEFORE UPDATE ON categorization_rules
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- Default rules (same keywords the importer used before)
+INSERT INTO categorization_rules (pattern, match_type, subcategory_id)
+SELECT r.pattern, 'CONTAINS', s.id
+FROM (VALUES
+    -- Transportation
+    ('uber', 'Basic Needs', 'Transportation'),
+    ('99', 'Basic Needs', 'Transportation'),
+    ('99taxi', 'Basic Needs', 'Transportation'),
+    -- Pet Care
+    ('petlove', 'Basic Needs', 'Pet Care'),
+    ('veterinaria', 'Basic Needs', 'Pet Care'),
+    ('vet', 'Basic Needs', 'Pet Care'),
+    -- Health
+    ('farmacia', 'Basic Needs', 'Health'),
+    ('clinica', 'Basic Needs', 'Health'),
+    ('rd saude', 'Basic Needs', 'Health'),
+    ('biomedic', 'Basic Needs', 'Health'),
+    -- Subscriptions
+    ('amazon', 'Leisure', 'Subscriptions'),
+    ('ifood club', 'Leisure', 'Subscriptions'),
+    ('youtube', 'Leisure', 'Subscriptions'),
+    ('apple.com', 'Leisure', 'Subscriptions'),
+    ('google', 'Leisure', 'Subscriptions'),
+    ('netflix', 'Leisure', 'Subscriptions'),
+    ('spotify', 'Leisure', 'Subscriptions'),
+    -- Restaurants & Bars
+    ('restaurante', 'Leisure', 'Restaurants & Bars'),
+    ('bar', 'Leisure', 'Restaurants & Bars'),
+    ('ifood', 'Leisure', 'Restaurants & Bars'),
+    -- Hobbies (Sports/Fitness)
+    ('fitness', 'Leisure', 'Hobbies'),
+    ('sport', 'Leisure', 'Hobbies'),
+    ('academia', 'Leisure', 'Hobbies'),
+    ('moinhos', 'Leisure', 'Hobbies'),
+    -- Personal Care
+    ('oboticario', 'Basic Needs', 'Personal Care'),
+    ('natura', 'Basic Needs', 'Personal Care'),
+    ('costura', 'Basic Needs', 'Clothing'),
+    -- Utilities
+    ('estadual de dist', 'Basic Needs', 'Utilities'),
+    ('ceee', 'Basic Needs', 'Utilities'),
+    ('dmae', 'Basic Needs', 'Utilities'),
+    -- Income categories
+    ('pix recebido', 'PIX', 'PIX Received'),
+    ('transferencia recebida', 'PIX', 'PIX Received')
+) AS r(pattern, category_name, subcategory_name)
+JOIN categories c ON c.name = r.category_name
+JOIN subcategories s ON s.category_id = c.id AND s.name = r.subcategory_name;
+
+COMMENT ON TABLE categorization_rules IS 'Auto-categorization rules: description pattern -> subcategory (and optional person override)';
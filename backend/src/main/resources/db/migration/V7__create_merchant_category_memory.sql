@@ -0,0 +1,19 @@
+-- V7__create_merchant_category_memory.sql
+-- Categories learned from manual corrections, keyed by normalized merchant
+-- Checked by auto-categorization before the keyword rules
+
+-- =====================================================
+-- MERCHANT_CATEGORY_MEMORY - merchant key -> category
+-- =====================================================
+CREATE TABLE merchant_category_memory (
+    merchant_key VARCHAR(100) PRIMARY KEY, -- Description without dates, ids and city suffixes
+    category_id INTEGER NOT NULL REFERENCES categories(id) ON DELETE CASCADE,
+    subcategory_id INTEGER REFERENCES subcategories(id) ON DELETE CASCADE,
+    confidence INTEGER NOT NULL DEFAULT 1, -- Consecutive corrections agreeing on this category
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_merchant_category_memory_updated ON merchant_category_memory(updated_at);
+
+COMMENT ON TABLE merchant_category_memory IS 'Merchant -> category learned from PATCH /api/transactions/{id} corrections';
@@ -0,0 +1,35 @@
+-- V8__add_transaction_composite_indexes.sql
+-- Composite and covering indexes matching the TransactionRepository queries
+-- Replaces the single-column index on transaction_type (three values, never selective)
+
+-- =====================================================
+-- TRANSACTIONS - type + date range reports
+-- =====================================================
+-- Serves getSpendingByCategory/Subcategory/Person, getAverageSpendingByCategory,
+-- getTotalByType and findByTransactionTypeAndTransactionDateBetween.
+-- INCLUDE columns let the aggregates run as index-only scans.
+CREATE INDEX idx_transactions_type_date ON transactions(transaction_type, transaction_date DESC)
+    INCLUDE (amount, category_id, subcategory_id, person_id);
+
+DROP INDEX idx_transactions_type;
+
+-- =====================================================
+-- TRANSACTIONS - per account / per card listings
+-- =====================================================
+-- findByAccountIdOrderByTransactionDateDesc, findByCreditCardIdOrderByTransactionDateDesc
+-- and the import preview fingerprint lookups (account/card + date window)
+CREATE INDEX idx_transactions_account_date ON transactions(account_id, transaction_date DESC)
+    WHERE account_id IS NOT NULL;
+CREATE INDEX idx_transactions_card_date ON transactions(credit_card_id, transaction_date DESC)
+    WHERE credit_card_id IS NOT NULL;
+
+-- =====================================================
+-- TRANSACTIONS - uncategorized queue
+-- =====================================================
+-- findUncategorizedTransactions / countUncategorizedTransactions only ever touch
+-- rows without a category; the partial index stays small as the queue is worked down
+CREATE INDEX idx_transactions_uncategorized ON transactions(transaction_date DESC)
+    WHERE category_id IS NULL;
+
+-- Refresh planner statistics so the new indexes are considered right away
+ANALYZE transactions;
@@ -0,0 +1,16 @@
+-- V9__create_ledger_version.sql
+-- Single-row counter bumped by every write that changes transaction totals
+-- (imports, reverts, recategorizations); analytics results are cached per version
+
+-- =====================================================
+-- LEDGER_VERSION - global data version for analytics caching
+-- =====================================================
+CREATE TABLE ledger_version (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO ledger_version (id, version) VALUES (1, 0);
+
+COMMENT ON TABLE ledger_version IS 'Bumped in the same transaction as each ledger write; key of the analytics result cache';
@@ -0,0 +1,41 @@
+-- R__ensure_transactions_partition.sql
+-- Replaces the V8_1 version of ensure_transactions_partition().
+-- A month partition created with PARTITION OF gets the row triggers of transactions
+-- (budget actuals, goal progress, daily cash flow) right away, so rows moved into it from
+-- the detached default partition were counted a second time. The month is now built as a
+-- plain table, filled, and only then attached: the moved rows fire no trigger.
+
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(p_day DATE)
+RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_day)::DATE;
+    month_end DATE := (date_trunc('month', p_day) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'transactions_' || to_char(p_day, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- Serialize concurrent imports creating the same month
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_transactions_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    ALTER TABLE transactions DETACH PARTITION transactions_default;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+
+    EXECUTE format('WITH moved AS (DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) ' ||
+                   'INSERT INTO %I SELECT * FROM moved',
+                   month_start, month_end, partition_name);
+
+    -- Clones indexes, foreign keys and row triggers onto the filled partition
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+
+    ALTER TABLE transactions ATTACH PARTITION transactions_default DEFAULT;
+
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,52 @@
+-- R__restore_staged_transactions.sql
+-- Second half of the late enabling of the partitioning profile (see the
+-- beforeEachMigrate__stage_transactions_for_partitioning callback): re-adds the columns,
+-- constraints and indexes added after V8 to the partitioned table, copies the parked rows
+-- back and only then recreates the parked row triggers, so nothing is counted twice.
+-- Triggers created by migrations applied after V8_1 are already in place and count the
+-- restored rows, replacing the backfills those migrations ran on the empty table.
+-- No-op when nothing was parked.
+DO $$
+DECLARE
+    staged RECORD;
+    stage_columns TEXT;
+BEGIN
+    IF to_regclass('transactions_partitioning_stage') IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM ensure_transactions_partition(month::DATE)
+    FROM generate_series(
+        (SELECT date_trunc('month', MIN(transaction_date)) FROM transactions_partitioning_stage),
+        (SELECT date_trunc('month', MAX(transaction_date)) FROM transactions_partitioning_stage),
+        INTERVAL '1 month'
+    ) AS month;
+
+    FOR staged IN SELECT * FROM transactions_partitioning_stage_ddl WHERE kind <> 'TRIGGER' ORDER BY seq LOOP
+        -- Skip what a migration applied after V8_1 already recreated
+        CONTINUE WHEN staged.kind = 'COLUMN' AND EXISTS (
+            SELECT 1 FROM pg_attribute
+            WHERE attrelid = 'transactions'::regclass AND attname = staged.name AND NOT attisdropped);
+        CONTINUE WHEN staged.kind = 'CONSTRAINT' AND EXISTS (
+            SELECT 1 FROM pg_constraint WHERE conrelid = 'transactions'::regclass AND conname = staged.name);
+        CONTINUE WHEN staged.kind = 'INDEX' AND to_regclass(staged.name) IS NOT NULL;
+        EXECUTE staged.definition;
+    END LOOP;
+
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO stage_columns
+    FROM pg_attribute
+    WHERE attrelid = 'transactions_partitioning_stage'::regclass AND attnum > 0 AND NOT attisdropped;
+    EXECUTE format('INSERT INTO transactions (%s) SELECT %s FROM transactions_partitioning_stage',
+                   stage_columns, stage_columns);
+
+    FOR staged IN SELECT * FROM transactions_partitioning_stage_ddl WHERE kind = 'TRIGGER' ORDER BY seq LOOP
+        CONTINUE WHEN EXISTS (
+            SELECT 1 FROM pg_trigger WHERE tgrelid = 'transactions'::regclass AND tgname = staged.name);
+        EXECUTE staged.definition;
+    END LOOP;
+
+    DROP TABLE transactions_partitioning_stage;
+    DROP TABLE transactions_partitioning_stage_ddl;
+    ANALYZE transactions;
+END;
+$$;
@@ -0,0 +1,256 @@
+-- V8_1__partition_transactions_by_month.sql
+-- OPT-IN: only applied with the "partitioning" Spring profile (see application.yml)
+-- Rebuilds transactions as a table range-partitioned by transaction_date month.
+-- Month partitions are created on demand by ensure_transactions_partition(), called
+-- before each import; rows outside any month partition land in transactions_default.
+
+-- Views reference the table by OID and are recreated on the new table at the end
+DROP VIEW IF EXISTS v_monthly_expenses_by_category;
+DROP VIEW IF EXISTS v_income_distribution_analysis;
+DROP VIEW IF EXISTS v_recent_transactions;
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+
+-- Index names are schema-wide; free them for the partitioned table
+DROP INDEX idx_transactions_date;
+DROP INDEX idx_transactions_person;
+DROP INDEX idx_transactions_category;
+DROP INDEX idx_transactions_subcategory;
+DROP INDEX idx_transactions_source;
+DROP INDEX idx_transactions_type_date;
+DROP INDEX idx_transactions_account_date;
+DROP INDEX idx_transactions_card_date;
+DROP INDEX idx_transactions_uncategorized;
+
+-- =====================================================
+-- TRANSACTIONS - partitioned by month of transaction_date
+-- =====================================================
+CREATE TABLE transactions (
+    id INTEGER NOT NULL DEFAULT nextval('transactions_id_seq'),
+
+    -- Source information
+    source_type VARCHAR(20) NOT NULL CHECK (source_type IN ('EXTRATO', 'FATURA')),
+    import_id INTEGER REFERENCES imports(id),
+
+    -- Transaction identification (for duplicate detection)
+    transaction_date TIMESTAMP NOT NULL,
+    description TEXT NOT NULL,
+    amount DECIMAL(14,2) NOT NULL,
+
+    -- Account/Card linkage
+    account_id INTEGER REFERENCES accounts(id),
+    credit_card_id INTEGER REFERENCES credit_cards(id),
+
+    -- Classification
+    category_id INTEGER REFERENCES categories(id),
+    subcategory_id INTEGER REFERENCES subcategories(id),
+    person_id INTEGER NOT NULL REFERENCES people(id),
+
+    -- Additional fields from CSVs
+    balance_after DECIMAL(14,2),
+    installment_info VARCHAR(50),
+    card_holder VARCHAR(100),
+
+    -- Transaction type
+    transaction_type VARCHAR(20) CHECK (transaction_type IN ('INCOME', 'EXPENSE', 'TRANSFER')),
+
+    -- Metadata
+    notes TEXT,
+    tags TEXT[],
+    is_recurring BOOLEAN DEFAULT FALSE,
+    is_verified BOOLEAN DEFAULT FALSE,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    -- Unique keys on a partitioned table must contain the partition key
+    PRIMARY KEY (id, transaction_date),
+    CHECK (
+        (source_type = 'EXTRATO' AND account_id IS NOT NULL) OR
+        (source_type = 'FATURA' AND credit_card_id IS NOT NULL)
+    )
+) PARTITION BY RANGE (transaction_date);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Duplicate prevention, one key per source so NULL account/card ids still collide.
+-- Both contain transaction_date, so they are enforced across all partitions.
+CREATE UNIQUE INDEX uq_transactions_extrato ON transactions(transaction_date, description, amount, account_id)
+    WHERE source_type = 'EXTRATO';
+CREATE UNIQUE INDEX uq_transactions_fatura ON transactions(transaction_date, description, amount, credit_card_id)
+    WHERE source_type = 'FATURA';
+
+-- Same indexes as the unpartitioned table (V3 + V8), created on every partition
+CREATE INDEX idx_transactions_date ON transactions(transaction_date DESC);
+CREATE INDEX idx_transactions_person ON transactions(person_id);
+CREATE INDEX idx_transactions_category ON transactions(category_id);
+CREATE INDEX idx_transactions_subcategory ON transactions(subcategory_id);
+CREATE INDEX idx_transactions_source ON transactions(source_type, import_id);
+CREATE INDEX idx_transactions_type_date ON transactions(transaction_type, transaction_date DESC)
+    INCLUDE (amount, category_id, subcategory_id, person_id);
+CREATE INDEX idx_transactions_account_date ON transactions(account_id, transaction_date DESC)
+    WHERE account_id IS NOT NULL;
+CREATE INDEX idx_transactions_card_date ON transactions(credit_card_id, transaction_date DESC)
+    WHERE credit_card_id IS NOT NULL;
+CREATE INDEX idx_transactions_uncategorized ON transactions(transaction_date DESC)
+    WHERE category_id IS NULL;
+
+CREATE TRIGGER update_transactions_updated_at BEFORE UPDATE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- =====================================================
+-- FUNCTIONS - partition maintenance
+-- =====================================================
+
+-- Creates the month partition containing p_day if missing and returns its name.
+-- Rows already parked in the default partition for that month are moved into it.
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(p_day DATE)
+RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_day)::DATE;
+    month_end DATE := (date_trunc('month', p_day) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'transactions_' || to_char(p_day, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- Serialize concurrent imports creating the same month
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_transactions_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    ALTER TABLE transactions DETACH PARTITION transactions_default;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+
+    EXECUTE format('WITH moved AS (DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) ' ||
+                   'INSERT INTO %I SELECT * FROM moved',
+                   month_start, month_end, partition_name);
+
+    ALTER TABLE transactions ATTACH PARTITION transactions_default DEFAULT;
+
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Optional BRIN index on month partitions older than p_older_than.
+-- Historical months are append-only and physically ordered by date, so a BRIN index
+-- answers date-range scans with a few pages instead of a full B-tree descent.
+CREATE OR REPLACE FUNCTION add_brin_to_historical_transactions_partitions(p_older_than INTERVAL DEFAULT INTERVAL '12 months')
+RETURNS INTEGER AS $$
+DECLARE
+    part RECORD;
+    created INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substring(c.relname FROM 14), 'YYYY_MM') < date_trunc('month', CURRENT_DATE - p_older_than)
+    LOOP
+        IF to_regclass(part.relname || '_date_brin') IS NULL THEN
+            EXECUTE format('CREATE INDEX %I ON %I USING brin (transaction_date)', part.relname || '_date_brin', part.relname);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- DATA - one partition per month already in use, then copy
+-- =====================================================
+SELECT ensure_transactions_partition(month::DATE)
+FROM generate_series(
+    (SELECT date_trunc('month', COALESCE(MIN(transaction_date), CURRENT_DATE)) FROM transactions_unpartitioned),
+    date_trunc('month', GREATEST(CURRENT_DATE, (SELECT MAX(transaction_date) FROM transactions_unpartitioned))),
+    INTERVAL '1 month'
+) AS month;
+
+INSERT INTO transactions SELECT * FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+ANALYZE transactions;
+
+-- =====================================================
+-- VIEWS - recreated on the partitioned table (same definitions as V3)
+-- =====================================================
+
+-- Monthly expense summary by category
+CREATE OR REPLACE VIEW v_monthly_expenses_by_category AS
+SELECT 
+    TO_CHAR(transaction_date, 'YYYY-MM') as month_year,
+    c.name as category,
+    p.name as person,
+    COUNT(*) as transaction_count,
+    SUM(amount) as total_amount
+FROM transactions t
+JOIN categories c ON t.category_id = c.id
+JOIN people p ON t.person_id = p.id
+WHERE t.transaction_type = 'EXPENSE'
+GROUP BY month_year, c.name, p.name
+ORDER BY month_year DESC, total_amount DESC;
+
+-- Income distribution analysis
+CREATE OR REPLACE VIEW v_income_distribution_analysis AS
+SELECT 
+    TO_CHAR(t.transaction_date, 'YYYY-MM') as month_year,
+    c.name as category,
+    idr.percentage as target_percentage,
+    SUM(t.amount) as actual_amount,
+    (SELECT SUM(amount) FROM transactions 
+     WHERE transaction_type = 'INCOME' 
+     AND TO_CHAR(transaction_date, 'YYYY-MM') = TO_CHAR(t.transaction_date, 'YYYY-MM')
+    ) as total_income,
+    ROUND(
+        (SUM(t.amount) / NULLIF(
+            (SELECT SUM(amount) FROM transactions 
+             WHERE transaction_type = 'INCOME' 
+             AND TO_CHAR(transaction_date, 'YYYY-MM') = TO_CHAR(t.transaction_date, 'YYYY-MM')
+            ), 0
+        ) * 100), 2
+    ) as actual_percentage
+FROM transactions t
+JOIN categories c ON t.category_id = c.id
+LEFT JOIN income_distribution_rules idr ON idr.category_id = c.id
+WHERE t.transaction_type = 'EXPENSE'
+GROUP BY month_year, c.name, idr.percentage
+ORDER BY month_year DESC, actual_amount DESC;
+
+-- Recent transactions with full details
+CREATE OR REPLACE VIEW v_recent_transactions AS
+SELECT 
+    t.id,
+    t.transaction_date,
+    t.description,
+    t.amount,
+    t.transaction_type,
+    t.source_type,
+    c.name as category,
+    sc.name as subcategory,
+    p.name as person,
+    COALESCE(a.name, cc.name) as account_or_card,
+    t.installment_info,
+    t.is_verified
+FROM transactions t
+LEFT JOIN categories c ON t.category_id = c.id
+LEFT JOIN subcategories sc ON t.subcategory_id = sc.id
+JOIN people p ON t.person_id = p.id
+LEFT JOIN accounts a ON t.account_id = a.id
+LEFT JOIN credit_cards cc ON t.credit_card_id = cc.id
+ORDER BY t.transaction_date DESC
+LIMIT 100;
+
+COMMENT ON TABLE transactions IS 'All financial movements from bank statements and credit card bills, partitioned by month';
+COMMENT ON COLUMN transactions.source_type IS 'Origin: EXTRATO (bank statement) or FATURA (credit card bill)';
+COMMENT ON COLUMN transactions.installment_info IS 'Installment details from credit card (e.g., "6 de 10")';
+COMMENT ON COLUMN transactions.balance_after IS 'Account balance after transaction (from bank statement)';
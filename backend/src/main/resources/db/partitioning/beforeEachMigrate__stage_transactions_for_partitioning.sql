@@ -0,0 +1,92 @@
+-- Flyway callback (partitioning profile only), run before every migration.
+-- Acts once, right before V8_1, when the profile is enabled on a transactions table that
+-- already has columns, indexes or triggers added after V8: V8_1 only knows the V3/V8 schema
+-- and copies rows with SELECT *. The rows and the definitions of those additions are
+-- parked here and restored on the partitioned table by R__restore_staged_transactions.
+-- Later schema changes need no partitioning-specific code: they are captured generically.
+DO $$
+DECLARE
+    -- Columns and indexes that V8_1 recreates itself
+    base_columns TEXT[] := ARRAY['id', 'source_type', 'import_id', 'transaction_date', 'description', 'amount',
+                                 'account_id', 'credit_card_id', 'category_id', 'subcategory_id', 'person_id',
+                                 'balance_after', 'installment_info', 'card_holder', 'transaction_type',
+                                 'notes', 'tags', 'is_recurring', 'is_verified', 'created_at', 'updated_at'];
+    base_indexes TEXT[] := ARRAY['idx_transactions_date', 'idx_transactions_person', 'idx_transactions_category',
+                                 'idx_transactions_subcategory', 'idx_transactions_source', 'idx_transactions_type_date',
+                                 'idx_transactions_account_date', 'idx_transactions_card_date', 'idx_transactions_uncategorized'];
+    staged RECORD;
+BEGIN
+    IF to_regclass('transactions') IS NULL
+       OR to_regclass('transactions_partitioning_stage') IS NOT NULL
+       OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass) THEN
+        RETURN;
+    END IF;
+
+    CREATE TEMPORARY TABLE late_transactions_ddl (
+        seq SERIAL,
+        kind TEXT NOT NULL,
+        name TEXT NOT NULL,
+        definition TEXT NOT NULL
+    ) ON COMMIT DROP;
+
+    INSERT INTO late_transactions_ddl (kind, name, definition)
+    SELECT 'COLUMN', a.attname,
+           format('ALTER TABLE transactions ADD COLUMN %I %s', a.attname, format_type(a.atttypid, a.atttypmod)) ||
+           COALESCE(' DEFAULT ' || pg_get_expr(d.adbin, d.adrelid), '') ||
+           CASE WHEN a.attnotnull THEN ' NOT NULL' ELSE '' END
+    FROM pg_attribute a
+    LEFT JOIN pg_attrdef d ON d.adrelid = a.attrelid AND d.adnum = a.attnum
+    WHERE a.attrelid = 'transactions'::regclass
+      AND a.attnum > 0 AND NOT a.attisdropped
+      AND a.attname <> ALL (base_columns)
+    ORDER BY a.attnum;
+
+    INSERT INTO late_transactions_ddl (kind, name, definition)
+    SELECT 'CONSTRAINT', c.conname,
+           format('ALTER TABLE transactions ADD CONSTRAINT %I %s', c.conname, pg_get_constraintdef(c.oid))
+    FROM pg_constraint c
+    WHERE c.conrelid = 'transactions'::regclass
+      AND c.contype IN ('c', 'f')
+      AND EXISTS (SELECT 1 FROM pg_attribute a
+                  WHERE a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey) AND a.attname <> ALL (base_columns))
+    ORDER BY c.conname;
+
+    INSERT INTO late_transactions_ddl (kind, name, definition)
+    SELECT 'INDEX', i.relname, pg_get_indexdef(x.indexrelid)
+    FROM pg_index x
+    JOIN pg_class i ON i.oid = x.indexrelid
+    WHERE x.indrelid = 'transactions'::regclass
+      AND i.relname <> ALL (base_indexes)
+      AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)
+    ORDER BY i.relname;
+
+    INSERT INTO late_transactions_ddl (kind, name, definition)
+    SELECT 'TRIGGER', t.tgname, pg_get_triggerdef(t.oid)
+    FROM pg_trigger t
+    WHERE t.tgrelid = 'transactions'::regclass
+      AND NOT t.tgisinternal
+      AND t.tgname <> 'update_transactions_updated_at'
+    ORDER BY t.tgname;
+
+    -- Nothing added after V8 (fresh install, or V8_1 applied before the schema grew)
+    IF NOT EXISTS (SELECT 1 FROM late_transactions_ddl) THEN
+        RETURN;
+    END IF;
+
+    CREATE TABLE transactions_partitioning_stage_ddl AS SELECT * FROM late_transactions_ddl;
+    CREATE TABLE transactions_partitioning_stage AS SELECT * FROM transactions;
+
+    -- Triggers go first, so emptying the table leaves budgets, goals and daily totals untouched;
+    -- dropping a column also drops its indexes and constraints
+    FOR staged IN SELECT * FROM late_transactions_ddl WHERE kind = 'TRIGGER' LOOP
+        EXECUTE format('DROP TRIGGER %I ON transactions', staged.name);
+    END LOOP;
+    FOR staged IN SELECT * FROM late_transactions_ddl WHERE kind = 'INDEX' LOOP
+        EXECUTE format('DROP INDEX IF EXISTS %I', staged.name);
+    END LOOP;
+    FOR staged IN SELECT * FROM late_transactions_ddl WHERE kind = 'COLUMN' LOOP
+        EXECUTE format('ALTER TABLE transactions DROP COLUMN %I', staged.name);
+    END LOOP;
+    DELETE FROM transactions;
+END;
+$$;
@@ -0,0 +1,93 @@
+package com.capofinance.application.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpenseDistributionServiceTests {
+
+	@Test
+	void heapEvictsTheSmallestOnceTopSizeIsReached() {
+		ExpenseDistributionService.Accumulator accumulator = new ExpenseDistributionService.Accumulator(3);
+		long[] cents = {500, 100, 900, 300, 700, 200, 1000, 800, 400, 600};
+		for (int i = 0; i < cents.length; i++) {
+			accumulator.add(i + 1, BigDecimal.valueOf(cents[i], 2));
+			assertTrue(accumulator.topIds().size() <= 3);
+		}
+
+		// 10.00, 9.00 and 8.00
+		assertEquals(Set.of(7L, 3L, 8L), Set.copyOf(accumulator.topIds()));
+	}
+
+	@Test
+	void amountEqualToTheSmallestOfAFullTopDoesNotEvict() {
+		ExpenseDistributionService.Accumulator accumulator = new ExpenseDistributionService.Accumulator(2);
+		accumulator.add(1, new BigDecimal("50.00"));
+		accumulator.add(2, new BigDecimal("20.00"));
+		accumulator.add(3, new BigDecimal("20.00"));
+
+		assertEquals(Set.of(1L, 2L), Set.copyOf(accumulator.topIds()));
+	}
+
+	@Test
+	void topMatchesAFullSort() {
+		Random random = new Random(7);
+		List<Long> distinctCents = new ArrayList<>();
+		for (long value = 1; value <= 5_000; value++) {
+			distinctCents.add(value * 37 + random.nextInt(37));
+		}
+		Collections.shuffle(distinctCents, random);
+
+		ExpenseDistributionService.Accumulator accumulator = new ExpenseDistributionService.Accumulator(10);
+		Map<Long, TopExpense> expenses = new HashMap<>();
+		BigDecimal total = BigDecimal.ZERO;
+		for (int i = 0; i < distinctCents.size(); i++) {
+			long id = i + 1;
+			BigDecimal amount = BigDecimal.valueOf(distinctCents.get(i), 2);
+			accumulator.add(id, amount);
+			expenses.put(id, TopExpense.builder().id(id).amount(amount).build());
+			total = total.add(amount);
+		}
+
+		List<Long> expected = expenses.values().stream()
+				.sorted(Comparator.comparing(TopExpense::getAmount).reversed())
+				.limit(10)
+				.map(TopExpense::getId)
+				.collect(Collectors.toList());
+
+		AmountDistribution distribution = accumulator.toDistribution("Mercado", expenses);
+
+		assertEquals(expected, distribution.getTop().stream().map(TopExpense::getId).collect(Collectors.toList()));
+		assertEquals("Mercado", distribution.getName());
+		assertEquals(5_000, distribution.getCount());
+		assertEquals(total, distribution.getTotal());
+		assertNotNull(distribution.getP50());
+		assertTrue(distribution.getP50().compareTo(distribution.getP90()) <= 0);
+		assertTrue(distribution.getP90().compareTo(distribution.getP99()) <= 0);
+	}
+
+	@Test
+	void topSkipsRowsThatWereNotLoaded() {
+		ExpenseDistributionService.Accumulator accumulator = new ExpenseDistributionService.Accumulator(2);
+		accumulator.add(1, new BigDecimal("10.00"));
+		accumulator.add(2, new BigDecimal("30.00"));
+
+		AmountDistribution distribution = accumulator.toDistribution(null,
+				Map.of(1L, TopExpense.builder().id(1L).amount(new BigDecimal("10.00")).build()));
+
+		assertEquals(List.of(1L), distribution.getTop().stream().map(TopExpense::getId).collect(Collectors.toList()));
+	}
+}
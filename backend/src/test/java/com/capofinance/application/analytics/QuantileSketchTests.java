@@ -0,0 +1,94 @@
+package com.capofinance.application.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTests {
+
+	private static final double RELATIVE_ACCURACY = 0.01;
+
+	@Test
+	void percentilesAreWithinOnePercentOfTheExactOnes() {
+		Random random = new Random(42);
+		List<BigDecimal> values = new ArrayList<>();
+		QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+		for (int i = 0; i < 20_000; i++) {
+			// Log-normal expenses, from a few reais to a few thousand
+			BigDecimal value = BigDecimal.valueOf(Math.exp(4 + 1.5 * random.nextGaussian()) + 1).setScale(2, RoundingMode.HALF_UP);
+			values.add(value);
+			sketch.add(value);
+		}
+		Collections.sort(values);
+
+		for (double q : new double[] {0.50, 0.90, 0.99}) {
+			assertWithinAccuracy(exactQuantile(values, q), sketch.quantile(q));
+		}
+	}
+
+	@Test
+	void percentilesOfASmallSampleAreWithinOnePercent() {
+		List<BigDecimal> values = new ArrayList<>();
+		QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+		for (String amount : new String[] {"12.90", "45.00", "7.50", "1999.99", "89.90", "32.10", "250.00"}) {
+			values.add(new BigDecimal(amount));
+			sketch.add(new BigDecimal(amount));
+		}
+		Collections.sort(values);
+
+		for (double q : new double[] {0.0, 0.50, 0.90, 0.99, 1.0}) {
+			assertWithinAccuracy(exactQuantile(values, q), sketch.quantile(q));
+		}
+	}
+
+	@Test
+	void zeroAndNegativeAmountsShareTheZeroBucket() {
+		QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+		sketch.add(BigDecimal.ZERO);
+		sketch.add(new BigDecimal("-15.00"));
+		sketch.add(new BigDecimal("0.00"));
+		for (int i = 0; i < 7; i++) {
+			sketch.add(new BigDecimal("100.00"));
+		}
+
+		assertEquals(new BigDecimal("0.00"), sketch.quantile(0.0));
+		assertEquals(new BigDecimal("0.00"), sketch.quantile(0.30));
+		assertWithinAccuracy(new BigDecimal("100.00"), sketch.quantile(0.31));
+		assertWithinAccuracy(new BigDecimal("100.00"), sketch.quantile(0.50));
+	}
+
+	@Test
+	void onlyZerosGiveZero() {
+		QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+		sketch.add(BigDecimal.ZERO);
+
+		assertEquals(new BigDecimal("0.00"), sketch.quantile(0.99));
+	}
+
+	@Test
+	void emptySketchHasNoQuantile() {
+		assertNull(new QuantileSketch(RELATIVE_ACCURACY).quantile(0.5));
+	}
+
+	// Nearest-rank quantile, the definition the sketch approximates
+	private static BigDecimal exactQuantile(List<BigDecimal> sorted, double q) {
+		int rank = (int) Math.max(1, Math.ceil(q * sorted.size()));
+		return sorted.get(rank - 1);
+	}
+
+	private static void assertWithinAccuracy(BigDecimal expected, BigDecimal actual) {
+		// Relative error of the sketch plus half a cent from rounding to scale 2
+		double tolerance = expected.doubleValue() * RELATIVE_ACCURACY + 0.005;
+		assertTrue(Math.abs(actual.doubleValue() - expected.doubleValue()) <= tolerance,
+				() -> "expected " + expected + " within 1%, got " + actual);
+	}
+}
@@ -0,0 +1,143 @@
+package com.capofinance.application.categorization;
+
+import com.capofinance.domain.CategorizationRuleEntity.MatchType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategorizationMatcherTests {
+
+	@Test
+	void containsMatchesAnywhereInTheDescription() {
+		CategorizationMatcher matcher = compile(rule(1, "mercado", MatchType.CONTAINS, 0));
+
+		assertMatches(matcher, "COMPRA SUPERMERCADO ZAFFARI", 1);
+		assertMatches(matcher, "Mercado Livre", 1);
+		assertNoMatch(matcher, "MERCAD0 PAGO");
+	}
+
+	@Test
+	void startsWithOnlyMatchesAtTheBeginning() {
+		CategorizationMatcher matcher = compile(rule(1, "pix", MatchType.STARTS_WITH, 0));
+
+		assertMatches(matcher, "PIX ENVIADO JOAO", 1);
+		assertMatches(matcher, "pix pix", 1);
+		assertNoMatch(matcher, "TRANSF PIX RECEBIDO");
+		assertNoMatch(matcher, "ppix");
+	}
+
+	@Test
+	void equalsMatchesTheWholeTrimmedDescription() {
+		CategorizationMatcher matcher = compile(rule(1, "netflix", MatchType.EQUALS, 0));
+
+		assertMatches(matcher, " NETFLIX ", 1);
+		assertNoMatch(matcher, "NETFLIX.COM");
+		assertNoMatch(matcher, "netfli");
+	}
+
+	@Test
+	void overlappingPatternsAreAllFoundThroughFailureLinks() {
+		CategorizationMatcher matcher = compile(
+				rule(1, "he", MatchType.CONTAINS, 0),
+				rule(2, "she", MatchType.CONTAINS, 0),
+				rule(3, "hers", MatchType.CONTAINS, 0),
+				rule(4, "his", MatchType.CONTAINS, 5));
+
+		// "she", "he" and "hers" all end inside "ushers"; the longest wins on equal priority
+		assertMatches(matcher, "ushers", 3);
+		assertMatches(matcher, "ushe", 2);
+		// "his" only shares a prefix with "hers"; the scan must fall back and still find "he"
+		assertMatches(matcher, "hhe", 1);
+		assertMatches(matcher, "this", 4);
+	}
+
+	@Test
+	void startsWithIsFoundWhenReachedThroughAFailureLink() {
+		CategorizationMatcher matcher = compile(
+				rule(1, "uber trip", MatchType.CONTAINS, 0),
+				rule(2, "ub", MatchType.STARTS_WITH, 0));
+
+		// Only a prefix occurrence counts, even when the state is shared with a longer pattern
+		assertMatches(matcher, "uber eats", 2);
+		assertNoMatch(matcher, "xuber eats");
+	}
+
+	@Test
+	void higherPriorityWinsOverLongerPattern() {
+		CategorizationMatcher matcher = compile(
+				rule(1, "uber eats", MatchType.CONTAINS, 0),
+				rule(2, "uber", MatchType.CONTAINS, 10));
+
+		assertMatches(matcher, "UBER EATS PEDIDO", 2);
+	}
+
+	@Test
+	void longerPatternWinsOnEqualPriority() {
+		CategorizationMatcher matcher = compile(
+				rule(1, "uber", MatchType.CONTAINS, 0),
+				rule(2, "uber eats", MatchType.CONTAINS, 0));
+
+		assertMatches(matcher, "UBER EATS PEDIDO", 2);
+		assertMatches(matcher, "UBER TRIP", 1);
+	}
+
+	@Test
+	void lowestIdWinsOnEqualPriorityAndLength() {
+		CategorizationMatcher matcher = compile(
+				rule(7, "ifood", MatchType.CONTAINS, 0),
+				rule(3, "pedid", MatchType.CONTAINS, 0),
+				rule(5, "ifood", MatchType.EQUALS, 0));
+
+		assertMatches(matcher, "ifood pedido", 3);
+		assertMatches(matcher, "ifood", 5);
+	}
+
+	@Test
+	void equalsCompetesWithPatternRulesOnPriority() {
+		CategorizationMatcher matcher = compile(
+				rule(1, "spotify", MatchType.EQUALS, 0),
+				rule(2, "spot", MatchType.CONTAINS, 1));
+
+		assertMatches(matcher, "spotify", 2);
+	}
+
+	@Test
+	void duplicateEqualsPatternsKeepTheWinningRule() {
+		CategorizationMatcher matcher = compile(
+				rule(4, "aluguel", MatchType.EQUALS, 0),
+				rule(2, "aluguel", MatchType.EQUALS, 0),
+				rule(9, "aluguel", MatchType.EQUALS, 3));
+
+		assertMatches(matcher, "ALUGUEL", 9);
+	}
+
+	@Test
+	void emptyMatcherAndNullDescriptionMatchNothing() {
+		assertNoMatch(CategorizationMatcher.EMPTY, "anything");
+		assertNoMatch(compile(rule(1, "a", MatchType.CONTAINS, 0)), null);
+		assertEquals(0, CategorizationMatcher.EMPTY.getRuleCount());
+	}
+
+	private static CompiledRule rule(long id, String pattern, MatchType matchType, int priority) {
+		return new CompiledRule(id, pattern, matchType, priority, 1L, 10L, null);
+	}
+
+	private static CategorizationMatcher compile(CompiledRule... rules) {
+		return CategorizationMatcher.compile(1, List.of(rules));
+	}
+
+	private static void assertMatches(CategorizationMatcher matcher, String description, long expectedRuleId) {
+		Optional<CompiledRule> match = matcher.match(description);
+		assertTrue(match.isPresent(), () -> "Expected rule " + expectedRuleId + " for \"" + description + "\"");
+		assertEquals(expectedRuleId, match.get().getId());
+	}
+
+	private static void assertNoMatch(CategorizationMatcher matcher, String description) {
+		Optional<CompiledRule> match = matcher.match(description);
+		assertTrue(match.isEmpty(), () -> "Expected no match for \"" + description + "\" but got rule " + match.get().getId());
+	}
+}
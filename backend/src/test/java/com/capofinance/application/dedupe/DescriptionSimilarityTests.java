@@ -0,0 +1,83 @@
+package com.capofinance.application.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DescriptionSimilarityTests {
+
+	private static final double MIN_SIMILARITY = 0.8; // capofinance.dedupe.min-similarity default
+
+	@Test
+	void identicalKeysScoreOne() {
+		assertEquals(1.0, DescriptionSimilarity.of("Netflix.com", "NETFLIX COM"));
+		assertEquals(1.0, DescriptionSimilarity.of("Padaria Pão Quente", "PADARIA PAO QUENTE"));
+	}
+
+	@Test
+	void keysShorterThanTwoCharactersScoreZero() {
+		assertEquals(0.0, DescriptionSimilarity.of("X", "XP INVESTIMENTOS"));
+		assertEquals(0.0, DescriptionSimilarity.of("PIX", "12/10"));
+		assertEquals(0.0, DescriptionSimilarity.of("a", "b"));
+	}
+
+	@Test
+	void emptyKeysAreNeverSimilar() {
+		assertEquals(0.0, DescriptionSimilarity.of("12/10 123456", "13/10"));
+		assertEquals(0.0, DescriptionSimilarity.of("***", "***"));
+		assertEquals(0.0, DescriptionSimilarity.of("", "NETFLIX"));
+	}
+
+	@Test
+	void oneDayShiftBetweenStatementAndBillIsTheSamePurchase() {
+		double similarity = DescriptionSimilarity.of(
+				"UBER *TRIP 12/10 PORTO ALEGRE BR",
+				"Uber *Trip 13/10 Porto Alegre");
+
+		assertEquals(1.0, similarity);
+	}
+
+	@Test
+	void reissuedDescriptionStaysAboveTheThreshold() {
+		double similarity = DescriptionSimilarity.of(
+				"MERCADO ZAFFARI LTDA 00012345",
+				"Mercado Zaffari Lt");
+
+		assertEquals(34.0 / 36.0, similarity, 1e-9);
+		assertTrue(similarity >= MIN_SIMILARITY);
+	}
+
+	@Test
+	void differentMerchantsStayBelowTheThreshold() {
+		assertTrue(DescriptionSimilarity.of("POSTO IPIRANGA", "FARMACIA PANVEL") < MIN_SIMILARITY);
+		assertTrue(DescriptionSimilarity.of("SPOTIFY", "NETFLIX") < MIN_SIMILARITY);
+	}
+
+	@Test
+	void scoreAroundTheThreshold() {
+		// 4 of 5 bigrams shared on each side: exactly 0.8, which is queued for review
+		assertEquals(0.8, DescriptionSimilarity.of("abcdef", "abcdeg"), 1e-9);
+		assertTrue(DescriptionSimilarity.of("abcdef", "abcdeg") >= MIN_SIMILARITY);
+
+		// 9 of 10 shared: above
+		assertEquals(0.9, DescriptionSimilarity.of("abcdefghijk", "abcdefghijx"), 1e-9);
+
+		// 7 of 9 shared: just below, not queued
+		assertEquals(14.0 / 18.0, DescriptionSimilarity.of("abcdefghij", "abcdefghxy"), 1e-9);
+		assertTrue(DescriptionSimilarity.of("abcdefghij", "abcdefghxy") < MIN_SIMILARITY);
+	}
+
+	@Test
+	void repeatedBigramsAreCountedOncePerOccurrence() {
+		// "aaaa" has three "aa" bigrams, "aa" only one: 2 * 1 / (3 + 1)
+		assertEquals(0.5, DescriptionSimilarity.of("aaaa", "aa"), 1e-9);
+	}
+
+	@Test
+	void isSymmetric() {
+		assertEquals(
+				DescriptionSimilarity.of("MERCADO ZAFFARI LTDA", "Mercado Zaffari Lt"),
+				DescriptionSimilarity.of("Mercado Zaffari Lt", "MERCADO ZAFFARI LTDA"));
+	}
+}
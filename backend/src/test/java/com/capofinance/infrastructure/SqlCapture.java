@@ -0,0 +1,29 @@
+package com.capofinance.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate sends to the database, so tests can EXPLAIN the statements
+ * the repositories really generate. Registered through hibernate.session_factory.statement_inspector.
+ */
+public class SqlCapture implements StatementInspector {
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+
+	static void clear() {
+		STATEMENTS.clear();
+	}
+
+	static List<String> statements() {
+		return List.copyOf(STATEMENTS);
+	}
+}
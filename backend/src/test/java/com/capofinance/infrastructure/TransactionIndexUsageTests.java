@@ -0,0 +1,140 @@
+package com.capofinance.infrastructure;
+
+import com.capofinance.domain.TransactionEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the V8 composite indexes, the V15/V16 tags and merchant indexes and the V17 daily cash-flow key:
+ * each test calls the TransactionRepository query, captures the SQL Hibernate generated for it and checks that
+ * its plan reads the table through an index. Plan node types are asserted rather than index names, which differ
+ * under the partitioning profile. Sequential scans are disabled so the check does not depend on table size.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.capofinance.infrastructure.SqlCapture")
+@Transactional
+class TransactionIndexUsageTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+	private static final LocalDateTime END = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+	private static final String START_LITERAL = "TIMESTAMP '2025-01-01 00:00:00'";
+	private static final String END_LITERAL = "TIMESTAMP '2025-01-31 23:59:59'";
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void disableSequentialScans() {
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	@Test
+	void findByTransactionTypeAndTransactionDateBetweenUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findByTransactionTypeAndTransactionDateBetween(TransactionEntity.TransactionType.EXPENSE, START, END);
+		assertUsesIndex("transactions", "'EXPENSE'", START_LITERAL, END_LITERAL);
+	}
+
+	@Test
+	void getSpendingByCategoryUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.getSpendingByCategory(START, END);
+		assertUsesIndex("transactions", START_LITERAL, END_LITERAL);
+	}
+
+	@Test
+	void getTotalByTypeUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.getTotalByType(TransactionEntity.TransactionType.INCOME, START, END);
+		assertUsesIndex("transactions", "'INCOME'", START_LITERAL, END_LITERAL);
+	}
+
+	@Test
+	void findByAccountIdOrderByTransactionDateDescUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findByAccountIdOrderByTransactionDateDesc(1L);
+		assertUsesIndex("transactions", "1");
+	}
+
+	@Test
+	void findByCreditCardIdOrderByTransactionDateDescUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findByCreditCardIdOrderByTransactionDateDesc(1L);
+		assertUsesIndex("transactions", "1");
+	}
+
+	@Test
+	void findExtratoFingerprintsUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findExtratoFingerprints(1L, START, END);
+		assertUsesIndex("transactions", "1", START_LITERAL, END_LITERAL);
+	}
+
+	@Test
+	void findUncategorizedTransactionsUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findUncategorizedTransactions();
+		assertUsesIndex("transactions");
+	}
+
+	@Test
+	void findByAllTagsUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.findByAllTags("{trip-2026}", Pageable.unpaged());
+		assertUsesIndex("transactions", "'{trip-2026}'");
+	}
+
+	@Test
+	void getMerchantMonthlyTrendUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.getMerchantMonthlyTrend(1L, START, END);
+		assertUsesIndex("transactions", "1", START_LITERAL, END_LITERAL);
+	}
+
+	@Test
+	void getDailyCashFlowUsesAnIndex() {
+		SqlCapture.clear();
+		transactionRepository.getDailyCashFlow(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null, null, null);
+		// :personId and :sourceType appear twice in the query
+		assertUsesIndex("daily_cash_flow", "DATE '2025-01-01'", "DATE '2025-12-31'",
+				"NULL", "NULL", "NULL", "NULL", "NULL");
+	}
+
+	/**
+	 * EXPLAINs the first statement captured since the last clear, with its JDBC placeholders
+	 * replaced in order by the given literals; a different placeholder count means the query changed
+	 */
+	private void assertUsesIndex(String table, String... literals) {
+		List<String> statements = SqlCapture.statements();
+		assertFalse(statements.isEmpty(), "No SQL was captured");
+		String sql = statements.get(0);
+
+		String[] parts = sql.split("\\?", -1);
+		assertEquals(literals.length, parts.length - 1, () -> "Unexpected placeholders in:\n" + sql);
+		StringBuilder bound = new StringBuilder(parts[0]);
+		for (int i = 0; i < literals.length; i++) {
+			bound.append(literals[i]).append(parts[i + 1]);
+		}
+
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bound, String.class));
+		assertFalse(plan.contains("Seq Scan on " + table), () -> "Sequential scan on " + table + " in plan:\n" + plan);
+		assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"),
+				() -> "Expected an index or bitmap index scan in plan:\n" + plan);
+	}
+
+}